@@ -0,0 +1,31 @@
+package project.todo;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크에서 사용할 애플리케이션 컨텍스트를 웹 서버 없이 시작합니다.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * 조회 비용을 측정할 수 있도록 Todo 조회 캐시는 사용하지 않습니다.
+     *
+     * @param databaseName 벤치마크마다 분리할 인메모리 H2 데이터베이스 이름
+     */
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(TodoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.main.banner-mode=off",
+                        "todo.read-cache.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+}
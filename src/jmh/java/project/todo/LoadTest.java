@@ -0,0 +1,158 @@
+package project.todo;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플랫폼 스레드와 가상 스레드로 요청을 처리할 때의 처리량과 응답 시간을 비교합니다.
+ * <p>
+ * 같은 조건으로 애플리케이션을 두 번 시작해 로그인한 사용자의 Todo 목록 조회를 동시에 반복 요청합니다.
+ * 가상 스레드 모드는 Java 21 이상에서만 적용됩니다. ({@code ./gradlew loadTest -PjavaVersion=21})
+ * <p>
+ * 인자: [동시 요청 수] [전체 요청 수] (기본값 200, 20000)
+ */
+public final class LoadTest {
+    private static final String LOGIN_ID = "load-test";
+    private static final String PASSWORD = "password";
+    private static final int TODO_COUNT = 20;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        var requests = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("Java " + Runtime.version().feature()
+                    + " 에서는 가상 스레드 설정이 무시되어 두 결과 모두 플랫폼 스레드로 측정됩니다.");
+        }
+
+        run(false, concurrency, requests);
+        run(true, concurrency, requests);
+    }
+
+    private static void run(boolean virtualThreads, int concurrency, int requests) throws Exception {
+        var mode = virtualThreads ? "virtual" : "platform";
+        try (var context = new SpringApplicationBuilder(TodoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.main.banner-mode=off",
+                        "todo.read-cache.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .run()) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var baseUrl = "http://localhost:" + port;
+            var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .cookieHandler(new CookieManager())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            login(client, baseUrl);
+            seed(client, baseUrl);
+
+            // 워밍업
+            measure(client, baseUrl, concurrency, Math.max(requests / 10, concurrency));
+
+            var result = measure(client, baseUrl, concurrency, requests);
+            System.out.printf("%-8s requests=%d concurrency=%d throughput=%.1f req/s p50=%.2fms p99=%.2fms failed=%d%n",
+                    mode, requests, concurrency, result.throughput(), result.p50(), result.p99(), result.failed());
+        }
+    }
+
+    private static void login(HttpClient client, String baseUrl) throws Exception {
+        postForm(client, baseUrl + "/members/register",
+                "name=load&loginId=" + LOGIN_ID + "&password=" + PASSWORD + "&email=" + encode("load@test.com"));
+        postForm(client, baseUrl + "/members/login",
+                "loginId=" + LOGIN_ID + "&password=" + PASSWORD);
+    }
+
+    private static void seed(HttpClient client, String baseUrl) throws Exception {
+        for (int i = 0; i < TODO_COUNT; i++) {
+            var body = "{\"title\":\"todo" + i + "\",\"deadLine\":\"" + LocalDate.now().plusDays(i + 1) + "\"}";
+            var response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/todos"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Todo 생성에 실패했습니다. status=" + response.statusCode());
+            }
+        }
+    }
+
+    private static Result measure(HttpClient client, String baseUrl, int concurrency, int requests) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + "/todos"))
+                .GET()
+                .build();
+        var latencies = new long[requests];
+        var failed = new AtomicInteger();
+        var permits = new Semaphore(concurrency);
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        var started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            permits.acquire();
+            var index = i;
+            var sentAt = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenCompleteAsync((response, e) -> {
+                        latencies[index] = System.nanoTime() - sentAt;
+                        if (e != null || response.statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                        permits.release();
+                    }, executor);
+        }
+        permits.acquire(concurrency);
+        var elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies);
+        return new Result(
+                requests / (elapsed / 1_000_000_000.0),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                failed.get()
+        );
+    }
+
+    private static void postForm(HttpClient client, String url, String form) throws Exception {
+        client.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        var index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private record Result(double throughput, double p50, double p99, int failed) {
+    }
+}
@@ -0,0 +1,56 @@
+package project.todo.model.todo;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import project.todo.model.todo.task.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Todo, Task 생성과 검증 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TodoBenchmark {
+    private static final LocalDate DEADLINE = LocalDate.now().plusYears(1);
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final int TASKS_PER_TODO = 1_000;
+
+    private Todo todo;
+
+    @Setup
+    public void setUp() {
+        todo = Todo.dueOn(1L, "todo", DEADLINE, NOW);
+    }
+
+    @Benchmark
+    public Todo createTodo() {
+        return Todo.dueOn(1L, "todo", DEADLINE, NOW);
+    }
+
+    /**
+     * Task를 생성하면 부모 Todo의 Task 개수가 증가하므로, {@value TASKS_PER_TODO}개의 Task를 생성할 때마다 새로운 Todo를 사용합니다.
+     * 호출마다 Todo를 준비하면 준비 비용이 측정 결과보다 커지므로, Todo 생성 비용을 Task마다 나누어 포함합니다.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_TODO)
+    public void createTask(Blackhole blackhole) {
+        var parent = Todo.dueOn(1L, "todo", DEADLINE, NOW);
+        for (int i = 0; i < TASKS_PER_TODO; i++) {
+            blackhole.consume(new Task(parent, "task", NOW));
+        }
+    }
+
+    @Benchmark
+    public void validateForUpdateStatus() {
+        todo.validateForUpdateStatus(Status.COMPLETE, NOW);
+    }
+
+    @Benchmark
+    public void validateWriter() {
+        todo.validateWriter(1L);
+    }
+}
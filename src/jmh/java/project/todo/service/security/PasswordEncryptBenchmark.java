@@ -0,0 +1,56 @@
+package project.todo.service.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해싱 비용을 측정합니다.
+ * <p>
+ * {@link #legacyToHash()}는 요청마다 MessageDigest를 생성하고 String.format으로 16진수 변환하던
+ * 이전 구현으로, gc 프로파일러의 할당량(gc.alloc.rate.norm)을 비교하기 위한 기준값입니다.
+ * {@link #pbkdf2ToHash()}는 반복 횟수에 따른 PBKDF2 해싱 비용으로, 해싱 스레드 풀 크기를 정하는 기준이 됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PasswordEncryptBenchmark {
+    private static final String PASSWORD = "password123!@";
+
+    private final PasswordEncrypt passwordEncrypt = new Sha256PasswordEncrypt();
+
+    @Param({"100000", "310000", "600000"})
+    private int iterations;
+
+    private PasswordEncrypt pbkdf2PasswordEncrypt;
+
+    @Setup
+    public void setUp() {
+        pbkdf2PasswordEncrypt = new Pbkdf2PasswordEncrypt(iterations, 16);
+    }
+
+    @Benchmark
+    public String toHash() {
+        return passwordEncrypt.toHash(PASSWORD);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String pbkdf2ToHash() {
+        return pbkdf2PasswordEncrypt.toHash(PASSWORD);
+    }
+
+    @Benchmark
+    public String legacyToHash() throws NoSuchAlgorithmException {
+        MessageDigest instance = MessageDigest.getInstance("SHA-256");
+        instance.update(PASSWORD.getBytes());
+
+        StringBuilder builder = new StringBuilder();
+        for (byte b : instance.digest()) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package project.todo.service.todo;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import project.todo.BenchmarkApplication;
+import project.todo.model.todo.Status;
+import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.dto.TodoPageResponse;
+import project.todo.service.todo.dto.TodoResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 한 명이 작성한 Todo 개수에 따른 {@link TodoReadService#findTodos} 조회 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TodoReadServiceBenchmark {
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(1L, "사용자");
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    @Param({"10", "1000", "100000"})
+    private int todoCount;
+
+    private ConfigurableApplicationContext context;
+    private TodoReadService todoReadService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("todo-read-" + todoCount);
+        todoReadService = context.getBean(TodoReadService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> findAllTodos() {
+        return todoReadService.findTodos(LOGIN_MEMBER, Optional.empty());
+    }
+
+    @Benchmark
+    public List<TodoResponse> findTodosByStatus() {
+        return todoReadService.findTodos(LOGIN_MEMBER, Optional.of(Status.COMPLETE));
+    }
+
+    @Benchmark
+    public TodoPageResponse findFirstPage() {
+        return todoReadService.findTodos(LOGIN_MEMBER, Optional.empty(), null, TodoReadService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TodoPageResponse findFirstPageByStatus() {
+        return todoReadService.findTodos(LOGIN_MEMBER, Optional.of(Status.COMPLETE), null, TodoReadService.DEFAULT_PAGE_SIZE);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        var sql = """
+                insert into todo (id, writer_id, title, deadline, created_at, status, task_count, incomplete_task_count, version)
+                values (?, ?, ?, ?, ?, ?, 0, 0, 0)
+                """;
+        var createdAt = LocalDateTime.now();
+        var batch = new ArrayList<Object[]>(SEED_BATCH_SIZE);
+
+        for (long id = 1; id <= todoCount; id++) {
+            var status = id % 2 == 0 ? Status.COMPLETE : Status.INCOMPLETE;
+            batch.add(new Object[]{id, LOGIN_MEMBER.id(), "todo" + id, createdAt.plusMinutes(id), createdAt, status.name()});
+
+            if (batch.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+}
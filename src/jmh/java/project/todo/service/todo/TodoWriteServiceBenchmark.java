@@ -0,0 +1,69 @@
+package project.todo.service.todo;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import project.todo.BenchmarkApplication;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.dto.TodoCreateRequest;
+import project.todo.service.todo.task.TaskWriteService;
+import project.todo.service.todo.task.dto.TaskAddRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Todo 생성과 Task 추가의 처리량을 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TodoWriteServiceBenchmark {
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(1L, "사용자");
+    private static final LocalDate DEADLINE = LocalDate.now().plusYears(1);
+
+    private ConfigurableApplicationContext context;
+    private TodoWriteService todoWriteService;
+    private TaskWriteService taskWriteService;
+    private Long todoId;
+    private List<TaskAddRequest> taskAddRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("todo-write");
+        todoWriteService = context.getBean(TodoWriteService.class);
+        taskWriteService = context.getBean(TaskWriteService.class);
+
+        todoWriteService.create(LOGIN_MEMBER, new TodoCreateRequest("todo", DEADLINE));
+        todoId = context.getBean(TodoRepository.class)
+                .findAllByWriterId(LOGIN_MEMBER.id())
+                .get(0)
+                .getId();
+        taskAddRequests = IntStream.range(0, 100)
+                .mapToObj(i -> new TaskAddRequest("task" + i))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createTodo() {
+        todoWriteService.create(LOGIN_MEMBER, new TodoCreateRequest("todo", DEADLINE));
+    }
+
+    @Benchmark
+    public void addTask() {
+        taskWriteService.add(LOGIN_MEMBER, todoId, new TaskAddRequest("task"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void addTasks() {
+        taskWriteService.addAll(LOGIN_MEMBER, todoId, taskAddRequests);
+    }
+}
@@ -0,0 +1,64 @@
+package project.todo.service.todo.dto;
+
+import org.openjdk.jmh.annotations.*;
+import project.todo.model.todo.Status;
+import project.todo.model.todo.Todo;
+import project.todo.model.todo.task.Task;
+import project.todo.repository.todo.dto.TodoTaskRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 엔티티와 조회 결과를 응답 객체로 변환하는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ResponseMappingBenchmark {
+    private static final LocalDate DEADLINE = LocalDate.now().plusYears(1);
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Param({"0", "10", "100"})
+    private int taskCount;
+
+    private Todo todo;
+    private List<Task> tasks;
+    private List<TodoTaskRow> rows;
+
+    @Setup
+    public void setUp() {
+        todo = Todo.dueOn(1L, "todo", DEADLINE, CREATED_AT);
+        tasks = IntStream.range(0, taskCount)
+                .mapToObj(i -> new Task(todo, "task" + i, CREATED_AT))
+                .toList();
+
+        var deadline = DEADLINE.atTime(LocalTime.MAX);
+        var createdAt = LocalDateTime.now();
+        rows = taskCount == 0
+                ? List.of(new TodoTaskRow(1L, 1L, "todo", deadline, createdAt, Status.INCOMPLETE, null, null, null, null))
+                : IntStream.range(0, taskCount)
+                .mapToObj(i -> new TodoTaskRow(1L, 1L, "todo", deadline, createdAt, Status.INCOMPLETE,
+                        (long) i, "task" + i, createdAt, Status.INCOMPLETE))
+                .toList();
+    }
+
+    @Benchmark
+    public TodoResponse todoResponse() {
+        return TodoResponse.from(todo);
+    }
+
+    @Benchmark
+    public TodoWithTasksResponse todoWithTasksResponseFromEntities() {
+        return TodoWithTasksResponse.from(todo, tasks);
+    }
+
+    @Benchmark
+    public TodoWithTasksResponse todoWithTasksResponseFromRows() {
+        return TodoWithTasksResponse.from(rows);
+    }
+}
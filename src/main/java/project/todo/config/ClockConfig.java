@@ -0,0 +1,19 @@
+package project.todo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 서비스는 요청마다 이 시계로 현재 시각을 한 번만 조회하여 도메인 객체에 전달합니다.
+ * 테스트나 벤치마크에서는 고정된 시계로 대체할 수 있습니다.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,73 @@
+package project.todo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 실제로 적용된 커넥션 풀과 Hibernate 설정을 로그로 남깁니다.
+ * <p>
+ * 프로필과 기본값이 겹쳐 적용되므로, 설정 파일 대신 생성된 {@link DataSource}와 {@link EntityManagerFactory}에서 값을 읽습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DataSourceSettingsReporter {
+    private static final List<String> HIBERNATE_SETTINGS = List.of(
+            "hibernate.hbm2ddl.auto",
+            "hibernate.jdbc.batch_size",
+            "hibernate.jdbc.batch_versioned_data",
+            "hibernate.order_inserts",
+            "hibernate.order_updates",
+            "hibernate.query.in_clause_parameter_padding",
+            "hibernate.query.plan_cache_max_size",
+            "hibernate.connection.provider_disables_autocommit"
+    );
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        reportPool();
+
+        log.info("spring.jpa.open-in-view={}", environment.getProperty("spring.jpa.open-in-view", "true"));
+
+        Map<String, Object> properties = entityManagerFactory.getProperties();
+        HIBERNATE_SETTINGS.forEach(name -> log.info("{}={}", name, properties.getOrDefault(name, "(default)")));
+    }
+
+    private void reportPool() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                log.info("datasource={}", dataSource.getClass().getName());
+                return;
+            }
+
+            var pool = dataSource.unwrap(HikariDataSource.class);
+            log.info("datasource url={}, pool={}, maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms, idleTimeout={}ms, maxLifetime={}ms, autoCommit={}",
+                    pool.getJdbcUrl(),
+                    pool.getPoolName(),
+                    pool.getMaximumPoolSize(),
+                    pool.getMinimumIdle(),
+                    pool.getConnectionTimeout(),
+                    pool.getIdleTimeout(),
+                    pool.getMaxLifetime(),
+                    pool.isAutoCommit()
+            );
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 설정을 확인할 수 없습니다.", e);
+        }
+    }
+}
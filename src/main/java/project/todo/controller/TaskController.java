@@ -9,15 +9,19 @@ import project.todo.service.member.Login;
 import project.todo.service.security.dto.LoginMember;
 import project.todo.service.todo.task.TaskWriteService;
 import project.todo.service.todo.task.dto.TaskAddRequest;
+import project.todo.service.todo.task.dto.TaskBatchAddRequest;
+import project.todo.service.todo.task.dto.TaskBatchStatusRequest;
 import project.todo.service.todo.task.dto.TaskUpdateRequest;
 
+import java.util.List;
+
 @RequiredArgsConstructor
-@RequestMapping("/todos/{todoId}/tasks")
+@RequestMapping("/todos/{todoId}")
 @RestController
 public class TaskController {
     private final TaskWriteService taskWriteService;
 
-    @PostMapping
+    @PostMapping("/tasks")
     public ResponseEntity<Void> add(
             @Login LoginMember loginMember,
             @PathVariable Long todoId,
@@ -27,7 +31,17 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
-    @PatchMapping("/{taskId}")
+    @PostMapping("/tasks:batch")
+    public ResponseEntity<Void> addAll(
+            @Login LoginMember loginMember,
+            @PathVariable Long todoId,
+            @RequestBody TaskBatchAddRequest request
+    ) {
+        taskWriteService.addAll(loginMember, todoId, request.tasks());
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    @PatchMapping("/tasks/{taskId}")
     public ResponseEntity<Void> update(
             @Login LoginMember loginMember,
             @PathVariable Long todoId,
@@ -38,7 +52,7 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
-    @PatchMapping("/{taskId}/status")
+    @PatchMapping("/tasks/{taskId}/status")
     public ResponseEntity<Void> updateStatus(
             @Login LoginMember loginMember,
             @PathVariable Long todoId,
@@ -49,7 +63,17 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
-    @DeleteMapping("/{taskId}")
+    @PatchMapping("/tasks/status:batch")
+    public ResponseEntity<Void> updateStatusAll(
+            @Login LoginMember loginMember,
+            @PathVariable Long todoId,
+            @RequestBody TaskBatchStatusRequest request
+    ) {
+        taskWriteService.updateStatusAll(loginMember, todoId, request.taskIds(), request.status());
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/tasks/{taskId}")
     public ResponseEntity<Void> delete(
             @Login LoginMember loginMember,
             @PathVariable Long todoId,
@@ -58,4 +82,14 @@ public class TaskController {
         taskWriteService.delete(loginMember, todoId, taskId);
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/tasks:batch")
+    public ResponseEntity<Void> deleteAll(
+            @Login LoginMember loginMember,
+            @PathVariable Long todoId,
+            @RequestParam List<Long> taskIds
+    ) {
+        taskWriteService.deleteAll(loginMember, todoId, taskIds);
+        return ResponseEntity.noContent().build();
+    }
 }
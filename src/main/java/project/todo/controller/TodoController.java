@@ -2,19 +2,25 @@ package project.todo.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import project.todo.model.todo.Status;
 import project.todo.service.member.Login;
 import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.TodoCleanupService;
+import project.todo.service.todo.TodoEventStream;
 import project.todo.service.todo.TodoReadService;
+import project.todo.service.todo.TodoVersions;
 import project.todo.service.todo.TodoWriteService;
+import project.todo.service.todo.dto.TodoCleanupResponse;
 import project.todo.service.todo.dto.TodoCreateRequest;
-import project.todo.service.todo.dto.TodoResponse;
+import project.todo.service.todo.dto.TodoPageResponse;
 import project.todo.service.todo.dto.TodoUpdateRequest;
 import project.todo.service.todo.dto.TodoWithTasksResponse;
 
-import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -23,23 +29,76 @@ import java.util.Optional;
 public class TodoController {
     private final TodoReadService todoReadService;
     private final TodoWriteService todoWriteService;
+    private final TodoVersions todoVersions;
+    private final TodoEventStream todoEventStream;
+    private final TodoCleanupService todoCleanupService;
 
     @GetMapping
-    public ResponseEntity<List<TodoResponse>> findTodos(
+    public ResponseEntity<TodoPageResponse> findTodos(
             @Login LoginMember loginMember,
-            @RequestParam(required = false) Optional<Status> status
+            @RequestParam(required = false) Optional<Status> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TodoReadService.DEFAULT_PAGE_SIZE) int limit,
+            WebRequest webRequest
     ) {
-        var todos = todoReadService.findTodos(loginMember, status);
-        return ResponseEntity.ok(todos);
+        var eTag = todoVersions.eTag(loginMember.id());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        var todos = todoReadService.findTodos(loginMember, status, cursor, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(todos);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@Login LoginMember loginMember) {
+        return todoEventStream.subscribe(loginMember.id());
+    }
+
+    @GetMapping("/overdue")
+    public ResponseEntity<TodoPageResponse> findOverdueTodos(
+            @Login LoginMember loginMember,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TodoReadService.DEFAULT_PAGE_SIZE) int limit
+    ) {
+        return ResponseEntity.ok(todoReadService.findOverdueTodos(loginMember, cursor, limit));
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<TodoPageResponse> findArchivedTodos(
+            @Login LoginMember loginMember,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TodoReadService.DEFAULT_PAGE_SIZE) int limit
+    ) {
+        return ResponseEntity.ok(todoReadService.findArchivedTodos(loginMember, cursor, limit));
+    }
+
+    @GetMapping("/archive/{todoId}")
+    public ResponseEntity<TodoWithTasksResponse> getArchivedTodoWithTasks(
+            @Login LoginMember loginMember,
+            @PathVariable Long todoId
+    ) {
+        return ResponseEntity.ok(todoReadService.getArchivedTodoWithTasks(loginMember, todoId));
     }
 
     @GetMapping("/{todoId}")
     public ResponseEntity<TodoWithTasksResponse> getTodoWithTasks(
             @Login LoginMember loginMember,
-            @PathVariable Long todoId
+            @PathVariable Long todoId,
+            WebRequest webRequest
     ) {
+        var eTag = todoVersions.eTag(loginMember.id(), todoId);
+        if (todoVersions.isServed(loginMember.id(), todoId, eTag) && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         var todoWithTasks = todoReadService.getTodoWithTasks(loginMember, todoId);
-        return ResponseEntity.ok(todoWithTasks);
+        todoVersions.served(loginMember.id(), todoId, eTag);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(todoWithTasks);
     }
 
     @PostMapping
@@ -79,4 +138,24 @@ public class TodoController {
         todoWriteService.delete(loginMember, todoId);
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/completed")
+    public ResponseEntity<TodoCleanupResponse> deleteCompleted(@Login LoginMember loginMember) {
+        return ResponseEntity.ok(todoCleanupService.deleteCompleted(loginMember));
+    }
+
+    @DeleteMapping("/expired")
+    public ResponseEntity<TodoCleanupResponse> deleteExpired(@Login LoginMember loginMember) {
+        return ResponseEntity.ok(todoCleanupService.deleteExpired(loginMember));
+    }
+
+    @PostMapping("/completed/archive")
+    public ResponseEntity<TodoCleanupResponse> archiveCompleted(@Login LoginMember loginMember) {
+        return ResponseEntity.ok(todoCleanupService.archiveCompleted(loginMember));
+    }
+
+    @PostMapping("/expired/archive")
+    public ResponseEntity<TodoCleanupResponse> archiveExpired(@Login LoginMember loginMember) {
+        return ResponseEntity.ok(todoCleanupService.archiveExpired(loginMember));
+    }
 }
@@ -0,0 +1,8 @@
+package project.todo.exception.member;
+
+public class PasswordHashException extends MemberException {
+
+    public PasswordHashException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package project.todo.model;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 엔티티 ID 시퀀스 설정
+ * <p>
+ * 시퀀스는 한 번 조회할 때마다 {@link #ALLOCATION_SIZE}개의 ID를 미리 할당받아 메모리에서 발급합니다.
+ * 값을 변경할 경우 데이터베이스 시퀀스의 INCREMENT BY 값도 함께 변경해야 합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IdGeneration {
+    public static final int ALLOCATION_SIZE = 50;
+}
@@ -4,22 +4,29 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import project.todo.exception.member.LoginFailedException;
 import project.todo.exception.member.NameLengthException;
+import project.todo.model.IdGeneration;
 
 import java.time.LocalDateTime;
+import java.util.function.Predicate;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_member_login_id", columnNames = "login_id"))
 public class Member {
     public static final int MAX_LENGTH = 10;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
     private String name;
     private String loginId;
@@ -27,14 +34,9 @@ public class Member {
     private String email;
     private LocalDateTime createdAt;
 
-    public Member(String name, String loginId, String password, String email) {
-        this(name, loginId, password, email, LocalDateTime.now());
-    }
-
     public Member(String name, String loginId, String password, String email, LocalDateTime createdAt) {
         validateLength(name);
 
-        this.id = 0L;
         this.name = name;
         this.loginId = loginId;
         this.password = password;
@@ -48,8 +50,11 @@ public class Member {
         }
     }
 
-    public void validatePassword(String password) {
-        if (!this.password.equals(password)) {
+    /**
+     * @param passwordMatcher 저장된 비밀번호 해시 값이 입력된 비밀번호와 일치하는지 판단하는 함수
+     */
+    public void validatePassword(Predicate<String> passwordMatcher) {
+        if (!passwordMatcher.test(this.password)) {
             throw new LoginFailedException("로그인 정보가 일치하지 않습니다.");
         }
     }
@@ -4,10 +4,13 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import project.todo.exception.member.MemberException;
 import project.todo.exception.todo.DeadlineExceededException;
 import project.todo.exception.todo.DeadlineException;
 import project.todo.exception.todo.TodoStateException;
+import project.todo.model.IdGeneration;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,10 +19,18 @@ import java.time.LocalTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_todo_writer_status_deadline", columnList = "writer_id, status, deadline, id"),
+        @Index(name = "idx_todo_writer_deadline", columnList = "writer_id, deadline, id"),
+        @Index(name = "idx_todo_deadline", columnList = "deadline, id"),
+        @Index(name = "idx_todo_overdue_deadline", columnList = "overdue, deadline, id"),
+        @Index(name = "idx_todo_writer_overdue_deadline", columnList = "writer_id, overdue, deadline, id")
+})
 public class Todo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
     private Long writerId;
     private String title;
@@ -27,16 +38,23 @@ public class Todo {
     private LocalDateTime createdAt;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Status status;
 
-    public Todo(Long writerId, String title, LocalDate deadline) {
-        this(writerId, title, deadline.atTime(LocalTime.MAX), LocalDateTime.now());
-    }
+    private int taskCount;
+    private int incompleteTaskCount;
+
+    /**
+     * 마감일이 지났는지 여부, 주기적으로 마감일을 확인하는 작업이 기록합니다.
+     */
+    private boolean overdue;
+
+    @Version
+    private Long version;
 
     public Todo(Long writerId, String title, LocalDateTime deadline, LocalDateTime createdAt) {
         validateForCreate(title, deadline, createdAt);
 
-        this.id = 0L;
         this.writerId = writerId;
         this.title = title;
         this.deadline = deadline;
@@ -44,6 +62,20 @@ public class Todo {
         this.status = Status.INCOMPLETE;
     }
 
+    /**
+     * 마감일이 끝날 때까지를 마감 시각으로 하는 Todo를 생성합니다.
+     *
+     * @param deadline 마감일
+     * @param createdAt 생성 시각
+     */
+    public static Todo dueOn(Long writerId, String title, LocalDate deadline, LocalDateTime createdAt) {
+        return new Todo(writerId, title, endOfDay(deadline), createdAt);
+    }
+
+    private static LocalDateTime endOfDay(LocalDate deadline) {
+        return deadline == null ? null : deadline.atTime(LocalTime.MAX);
+    }
+
     private void validateForCreate(String title, LocalDateTime deadline, LocalDateTime createdAt) {
         validateTitle(title);
         validateDeadline(deadline, createdAt);
@@ -65,30 +97,33 @@ public class Todo {
         }
     }
 
-    public void update(String title, LocalDate deadline) {
-        validateForUpdate();
+    /**
+     * @param now 요청 시각, 마감일 초과 여부를 판단하는 기준입니다.
+     */
+    public void update(String title, LocalDate deadline, LocalDateTime now) {
+        validateForUpdate(now);
 
         if (title != null) {
             this.title = title;
         }
 
         if (deadline != null) {
-            this.deadline = deadline.atTime(LocalTime.MAX);
+            this.deadline = endOfDay(deadline);
         }
     }
 
-    private void validateForUpdate() {
+    private void validateForUpdate(LocalDateTime now) {
         if (this.status.isCompleted()) {
             throw new TodoStateException("이미 완료된 Todo는 수정할 수 없습니다.");
         }
 
-        if (this.deadline.isBefore(LocalDateTime.now())) {
+        if (isDeadlineExceeded(now)) {
             throw new DeadlineExceededException("마감일이 초과되어 수정할 수 없습니다.");
         }
     }
 
-    public void complete() {
-        validateForUpdateStatus(Status.COMPLETE);
+    public void complete(LocalDateTime now) {
+        validateForUpdateStatus(Status.COMPLETE, now);
 
         if (this.status.isCompleted()) {
             throw new TodoStateException("이미 완료된 Todo는 완료 처리할 수 없습니다.");
@@ -97,8 +132,8 @@ public class Todo {
         this.status = Status.COMPLETE;
     }
 
-    public void incomplete() {
-        validateForUpdateStatus(Status.INCOMPLETE);
+    public void incomplete(LocalDateTime now) {
+        validateForUpdateStatus(Status.INCOMPLETE, now);
 
         if (!this.status.isCompleted()) {
             throw new TodoStateException("완료되지 않은 Todo는 해제할 수 없습니다.");
@@ -107,15 +142,62 @@ public class Todo {
         this.status = Status.INCOMPLETE;
     }
 
-    public void validateForUpdateStatus(Status status) {
-        if (this.deadline.isBefore(LocalDateTime.now())) {
+    public void validateForUpdateStatus(Status status, LocalDateTime now) {
+        if (isDeadlineExceeded(now)) {
             throw new DeadlineExceededException("마감일이 초과되어 " + status.getStatus() + " 처리할 수 없습니다.");
         }
     }
 
+    /**
+     * 마감일이 지난 것으로 기록된 Todo는 요청 시각과 비교하지 않습니다.
+     * 마감일이 지난 후 아직 기록되지 않은 경우에만 요청 시각과 비교합니다.
+     *
+     * @param now 요청 시각
+     */
+    public boolean isDeadlineExceeded(LocalDateTime now) {
+        return this.overdue || this.deadline.isBefore(now);
+    }
+
     public void validateWriter(long memberId) {
         if (!this.writerId.equals(memberId)) {
             throw new MemberException("작성자 정보가 일치하지 않습니다.");
         }
     }
+
+    /**
+     * 새로운 Task가 추가되었음을 반영합니다. 추가된 Task는 항상 미완료 상태입니다.
+     */
+    public void increaseTaskCount() {
+        this.taskCount++;
+        this.incompleteTaskCount++;
+    }
+
+    /**
+     * Task가 삭제되었음을 반영합니다.
+     *
+     * @param taskStatus 삭제된 Task의 상태
+     */
+    public void decreaseTaskCount(Status taskStatus) {
+        this.taskCount--;
+
+        if (!taskStatus.isCompleted()) {
+            this.incompleteTaskCount--;
+        }
+    }
+
+    public void decreaseIncompleteTaskCount() {
+        this.incompleteTaskCount--;
+    }
+
+    public void increaseIncompleteTaskCount() {
+        this.incompleteTaskCount++;
+    }
+
+    public boolean hasTasks() {
+        return this.taskCount > 0;
+    }
+
+    public boolean isAllTasksCompleted() {
+        return this.incompleteTaskCount == 0;
+    }
 }
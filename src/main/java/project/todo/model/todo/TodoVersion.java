@@ -0,0 +1,22 @@
+package project.todo.model.todo;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 Todo 버전
+ * <p>
+ * 회원의 Todo 또는 Task를 변경하는 트랜잭션에서 함께 증가하며, 여러 서버가 같은 값을 조회 응답의 ETag로 사용합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class TodoVersion {
+
+    @Id
+    private Long memberId;
+    private long version;
+}
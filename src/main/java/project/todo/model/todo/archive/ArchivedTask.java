@@ -0,0 +1,36 @@
+package project.todo.model.todo.archive;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import project.todo.model.todo.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 처리된 Todo에 포함된 Task
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_archived_task_todo", columnList = "todo_id"))
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+    private Long todoId;
+    private String content;
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private Status status;
+}
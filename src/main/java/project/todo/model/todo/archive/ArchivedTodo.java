@@ -0,0 +1,48 @@
+package project.todo.model.todo.archive;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import project.todo.exception.member.MemberException;
+import project.todo.model.todo.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 처리된 Todo
+ * <p>
+ * 보관된 Todo는 수정할 수 없으며, 원래 Todo의 ID를 그대로 사용합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_archived_todo_writer_deadline", columnList = "writer_id, deadline, id"))
+public class ArchivedTodo {
+
+    @Id
+    private Long id;
+    private Long writerId;
+    private String title;
+    private LocalDateTime deadline;
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private Status status;
+
+    private LocalDateTime archivedAt;
+
+    public void validateWriter(long memberId) {
+        if (!this.writerId.equals(memberId)) {
+            throw new MemberException("작성자 정보가 일치하지 않습니다.");
+        }
+    }
+}
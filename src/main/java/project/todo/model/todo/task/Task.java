@@ -4,103 +4,149 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import project.todo.exception.todo.DeadlineExceededException;
 import project.todo.exception.todo.task.TaskNotInTodoException;
 import project.todo.exception.todo.task.TaskStateException;
+import project.todo.model.IdGeneration;
 import project.todo.model.todo.Status;
 import project.todo.model.todo.Todo;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_task_todo_status", columnList = "todo_id, status"))
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "todo_id")
     private Todo todo;
     private String content;
     private LocalDateTime createdAt;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Status status;
 
-    public Task(Todo todo, String content) {
-        this(todo, content, LocalDateTime.now());
+    public Task(Todo todo, String content, LocalDateTime createdAt) {
+        validateDeadline(todo, createdAt);
+        initialize(todo, content, createdAt);
     }
 
-    public Task(Todo todo, String content, LocalDateTime createdAt) {
-        validateForCreate(todo, content, createdAt);
+    /**
+     * 같은 Todo에 여러 Task를 생성합니다. Todo의 마감일은 한 번만 확인합니다.
+     *
+     * @param contents 생성할 Task의 내용 목록
+     */
+    public static List<Task> createAll(Todo todo, List<String> contents, LocalDateTime createdAt) {
+        validateDeadline(todo, createdAt);
+
+        return contents.stream()
+                .map(content -> {
+                    var task = new Task();
+                    task.initialize(todo, content, createdAt);
+                    return task;
+                })
+                .toList();
+    }
+
+    private void initialize(Todo todo, String content, LocalDateTime createdAt) {
+        validateContent(content);
 
-        this.id = 0L;
         this.todo = todo;
         this.content = content;
         this.createdAt = createdAt;
         this.status = Status.INCOMPLETE;
+        todo.increaseTaskCount();
     }
 
-    private void validateForCreate(Todo todo, String content, LocalDateTime createdAt) {
-        validateContent(content);
-        validateDeadline(todo, createdAt);
-    }
-
-    private void validateContent(String content) {
+    private static void validateContent(String content) {
         if (content == null || content.isBlank()) {
             throw new IllegalArgumentException("내용은 공백일 수 없습니다.");
         }
     }
 
-    private void validateDeadline(Todo todo, LocalDateTime createdAt) {
+    private static void validateDeadline(Todo todo, LocalDateTime createdAt) {
         if (todo.getDeadline().isBefore(createdAt)) {
             throw new DeadlineExceededException("마감일이 초과되어 Task를 생성할 수 없습니다.");
         }
     }
 
-    public void update(String content) {
-        validateForUpdate(content);
+    /**
+     * @param now 요청 시각, Todo의 마감일 초과 여부를 판단하는 기준입니다.
+     */
+    public void update(String content, LocalDateTime now) {
+        validateForUpdate(content, now);
 
         this.content = content;
     }
 
-    private void validateForUpdate(String content) {
+    private void validateForUpdate(String content, LocalDateTime now) {
         validateContent(content);
 
         if (this.status.isCompleted()) {
             throw new TaskStateException("이미 완료된 Task는 수정할 수 없습니다.");
         }
 
-        if (this.todo.getDeadline().isBefore(LocalDateTime.now())) {
+        if (this.todo.isDeadlineExceeded(now)) {
             throw new DeadlineExceededException("마감일이 초과되어 수정할 수 없습니다.");
         }
     }
 
-    public void complete() {
-        checkDeadline(Status.COMPLETE);
+    public void complete(LocalDateTime now) {
+        checkDeadline(Status.COMPLETE, now);
 
         if (this.status.isCompleted()) {
             throw new TaskStateException("이미 완료된 Task는 완료 처리할 수 없습니다.");
         }
 
         this.status = Status.COMPLETE;
+        todo.decreaseIncompleteTaskCount();
     }
 
-    public void incomplete() {
-        checkDeadline(Status.INCOMPLETE);
+    public void incomplete(LocalDateTime now) {
+        checkDeadline(Status.INCOMPLETE, now);
 
         if (!this.status.isCompleted()) {
             throw new TaskStateException("완료되지 않은 Task는 완료 해제할 수 없습니다.");
         }
 
         this.status = Status.INCOMPLETE;
+        todo.increaseIncompleteTaskCount();
+    }
+
+    /**
+     * 요청한 상태로 변경하며, 이미 요청한 상태라면 변경하지 않습니다.
+     * 여러 Task를 한 번에 변경할 때 사용하므로 Todo의 마감일은 {@link Todo#validateForUpdateStatus}로 한 번만 확인해야 합니다.
+     *
+     * @return 상태가 변경되었는지 여부
+     */
+    public boolean changeStatus(Status status) {
+        if (this.status == status) {
+            return false;
+        }
+
+        this.status = status;
+        if (status.isCompleted()) {
+            todo.decreaseIncompleteTaskCount();
+        } else {
+            todo.increaseIncompleteTaskCount();
+        }
+        return true;
     }
 
-    private void checkDeadline(Status status) {
-        todo.validateForUpdateStatus(status);
+    private void checkDeadline(Status status, LocalDateTime now) {
+        todo.validateForUpdateStatus(status, now);
     }
 
     public void validateWriter(long memberId) {
@@ -108,7 +154,7 @@ public class Task {
     }
 
     public void validateTodo(long todoId) {
-        if (!this.todo.getId().equals(todoId)) {
+        if (!Objects.equals(this.todo.getId(), todoId)) {
             throw new TaskNotInTodoException("해당 Task는 " + todoId + "에 포함되어 있지 않습니다.");
         }
     }
@@ -1,13 +1,26 @@
 package project.todo.repository.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import project.todo.model.member.Member;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByLoginId(String loginId);
 
     boolean existsByLoginId(String loginId);
+
+    @Query("select m.loginId from Member m")
+    Stream<String> streamAllLoginIds();
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.password = :password where m.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
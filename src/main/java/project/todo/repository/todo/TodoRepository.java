@@ -1,11 +1,149 @@
 package project.todo.repository.todo;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import project.todo.model.todo.Status;
 import project.todo.model.todo.Todo;
+import project.todo.repository.todo.dto.TodoTaskRow;
+import project.todo.repository.todo.dto.TodoWriterRow;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
     List<Todo> findAllByWriterId(Long memberId);
+
+    List<Todo> findAllByWriterIdAndStatus(Long memberId, Status status);
+
+    List<Todo> findAllByWriterIdOrderByDeadlineAscIdAsc(Long memberId, Pageable pageable);
+
+    List<Todo> findAllByWriterIdAndStatusOrderByDeadlineAscIdAsc(Long memberId, Status status, Pageable pageable);
+
+    @Query("""
+            select t from Todo t
+            where t.writerId = :memberId
+              and (t.deadline > :deadline or (t.deadline = :deadline and t.id > :id))
+            order by t.deadline asc, t.id asc
+            """)
+    List<Todo> findAllByWriterIdAfter(
+            @Param("memberId") Long memberId,
+            @Param("deadline") LocalDateTime deadline,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            select t from Todo t
+            where t.writerId = :memberId
+              and t.status = :status
+              and (t.deadline > :deadline or (t.deadline = :deadline and t.id > :id))
+            order by t.deadline asc, t.id asc
+            """)
+    List<Todo> findAllByWriterIdAndStatusAfter(
+            @Param("memberId") Long memberId,
+            @Param("status") Status status,
+            @Param("deadline") LocalDateTime deadline,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            select new project.todo.repository.todo.dto.TodoTaskRow(
+                t.id, t.writerId, t.title, t.deadline, t.createdAt, t.status,
+                k.id, k.content, k.createdAt, k.status
+            )
+            from Todo t
+            left join Task k on k.todo = t
+            where t.id = :todoId
+            order by k.id asc
+            """)
+    List<TodoTaskRow> findTodoWithTasksById(@Param("todoId") Long todoId);
+
+    @Query("""
+            select t.id from Todo t
+            where t.writerId = :memberId
+              and t.status = :status
+            order by t.deadline asc, t.id asc
+            """)
+    List<Long> findIdsByWriterIdAndStatus(
+            @Param("memberId") Long memberId,
+            @Param("status") Status status,
+            Pageable pageable
+    );
+
+    @Query("""
+            select t.id from Todo t
+            where t.writerId = :memberId
+              and t.deadline < :now
+            order by t.deadline asc, t.id asc
+            """)
+    List<Long> findIdsByWriterIdAndDeadlineBefore(
+            @Param("memberId") Long memberId,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Query("""
+            select new project.todo.repository.todo.dto.TodoWriterRow(t.id, t.writerId)
+            from Todo t
+            where t.deadline < :deadline
+            order by t.deadline asc, t.id asc
+            """)
+    List<TodoWriterRow> findWritersByDeadlineBefore(@Param("deadline") LocalDateTime deadline, Pageable pageable);
+
+    @Query("""
+            select t from Todo t
+            where t.writerId = :memberId
+              and t.overdue = true
+              and t.status = project.todo.model.todo.Status.INCOMPLETE
+            order by t.deadline asc, t.id asc
+            """)
+    List<Todo> findOverdueByWriterId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("""
+            select t from Todo t
+            where t.writerId = :memberId
+              and t.overdue = true
+              and t.status = project.todo.model.todo.Status.INCOMPLETE
+              and (t.deadline > :deadline or (t.deadline = :deadline and t.id > :id))
+            order by t.deadline asc, t.id asc
+            """)
+    List<Todo> findOverdueByWriterIdAfter(
+            @Param("memberId") Long memberId,
+            @Param("deadline") LocalDateTime deadline,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            select t.id from Todo t
+            where t.overdue = false
+              and t.deadline < :now
+            order by t.deadline asc, t.id asc
+            """)
+    List<Long> findIdsToMarkOverdue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 버전을 함께 증가시켜, 마감일이 지나기 전에 조회한 Todo로 덮어쓰지 않도록 합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Todo t set t.overdue = true where t.id in :todoIds")
+    int markOverdue(@Param("todoIds") Collection<Long> todoIds);
+
+    /**
+     * Todo를 조회하지 않고 한 번의 DELETE 문으로 삭제합니다.
+     * 실행 후 영속성 컨텍스트를 비우므로, 이전에 조회한 엔티티는 준영속 상태가 됩니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Todo t where t.id = :todoId")
+    int deleteByIdInBulk(@Param("todoId") Long todoId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Todo t where t.id in :todoIds")
+    int deleteAllByIdInBulk(@Param("todoIds") Collection<Long> todoIds);
 }
@@ -0,0 +1,29 @@
+package project.todo.repository.todo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import project.todo.model.todo.TodoVersion;
+
+import java.util.Optional;
+
+public interface TodoVersionRepository extends JpaRepository<TodoVersion, Long> {
+
+    @Query("select v.version from TodoVersion v where v.memberId = :memberId")
+    Optional<Long> findVersionByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * @return 버전이 증가한 행의 개수, 회원의 버전이 아직 없으면 0
+     */
+    /**
+     * 버전이 0인 회원의 버전을 만듭니다. 이미 있다면 기본 키 제약 조건을 위반합니다.
+     */
+    @Modifying
+    @Query("insert into TodoVersion (memberId, version) values (:memberId, 0)")
+    int create(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("update TodoVersion v set v.version = v.version + 1 where v.memberId = :memberId")
+    int increase(@Param("memberId") Long memberId);
+}
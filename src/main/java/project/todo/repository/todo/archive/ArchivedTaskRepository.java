@@ -0,0 +1,27 @@
+package project.todo.repository.todo.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import project.todo.model.todo.archive.ArchivedTask;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    List<ArchivedTask> findAllByTodoIdOrderByIdAsc(Long todoId);
+
+    /**
+     * Task를 조회하지 않고 한 번의 INSERT ... SELECT 문으로 보관 테이블에 복사합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            insert into ArchivedTask (id, todoId, content, createdAt, status)
+            select k.id, k.todo.id, k.content, k.createdAt, k.status
+            from Task k
+            where k.todo.id in :todoIds
+            """)
+    int archiveAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+}
@@ -0,0 +1,42 @@
+package project.todo.repository.todo.archive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import project.todo.model.todo.archive.ArchivedTodo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedTodoRepository extends JpaRepository<ArchivedTodo, Long> {
+
+    List<ArchivedTodo> findAllByWriterIdOrderByDeadlineAscIdAsc(Long memberId, Pageable pageable);
+
+    @Query("""
+            select t from ArchivedTodo t
+            where t.writerId = :memberId
+              and (t.deadline > :deadline or (t.deadline = :deadline and t.id > :id))
+            order by t.deadline asc, t.id asc
+            """)
+    List<ArchivedTodo> findAllByWriterIdAfter(
+            @Param("memberId") Long memberId,
+            @Param("deadline") LocalDateTime deadline,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * Todo를 조회하지 않고 한 번의 INSERT ... SELECT 문으로 보관 테이블에 복사합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            insert into ArchivedTodo (id, writerId, title, deadline, createdAt, status, archivedAt)
+            select t.id, t.writerId, t.title, t.deadline, t.createdAt, t.status, local datetime
+            from Todo t
+            where t.id in :todoIds
+            """)
+    int archiveAllByIdIn(@Param("todoIds") Collection<Long> todoIds);
+}
@@ -0,0 +1,28 @@
+package project.todo.repository.todo.dto;
+
+import project.todo.model.todo.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * Todo와 Task를 조인하여 조회한 한 행의 프로젝션
+ * <p>
+ * Task가 없는 Todo는 Task 관련 값이 모두 {@code null}인 한 행으로 조회됩니다.
+ */
+public record TodoTaskRow(
+        Long todoId,
+        Long writerId,
+        String title,
+        LocalDateTime deadline,
+        LocalDateTime createdAt,
+        Status status,
+        Long taskId,
+        String taskContent,
+        LocalDateTime taskCreatedAt,
+        Status taskStatus
+) {
+
+    public boolean hasTask() {
+        return taskId != null;
+    }
+}
@@ -0,0 +1,10 @@
+package project.todo.repository.todo.dto;
+
+/**
+ * Todo의 ID와 작성자 ID만 조회한 프로젝션
+ */
+public record TodoWriterRow(
+        Long todoId,
+        Long writerId
+) {
+}
@@ -1,19 +1,34 @@
 package project.todo.repository.todo.task;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import project.todo.model.todo.Status;
-import project.todo.model.todo.Todo;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import project.todo.model.todo.task.Task;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    @EntityGraph(attributePaths = "todo")
+    Optional<Task> findWithTodoById(Long taskId);
+
     List<Task> findAllByTodoId(Long todoId);
 
-    void deleteAllByTodoId(Long todoId);
+    List<Task> findAllByTodoIdAndIdIn(Long todoId, Collection<Long> taskIds);
 
-    Boolean existsByTodoAndStatus(Todo todo, Status status);
+    /**
+     * Task를 조회하지 않고 한 번의 DELETE 문으로 삭제합니다.
+     * 영속성 컨텍스트에 남아 있는 삭제된 Task를 조회하지 않도록 실행 후 영속성 컨텍스트를 비웁니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
 
-    boolean existsByTodo(Todo todo);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.todo.id in :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
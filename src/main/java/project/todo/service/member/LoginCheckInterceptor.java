@@ -0,0 +1,54 @@
+package project.todo.service.member;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import project.todo.service.security.SessionHolder;
+import project.todo.service.security.dto.LoginMember;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Login} 파라미터가 있는 핸들러에 대해 컨트롤러 호출 전에 로그인 여부를 확인합니다.
+ * <p>
+ * 로그인 정보는 요청마다 한 번만 조회하여 요청 속성에 보관하고, 로그인하지 않은 요청은 401로 응답합니다.
+ * 핸들러별 로그인 필요 여부는 처음 호출될 때 한 번만 계산합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class LoginCheckInterceptor implements HandlerInterceptor {
+    public static final String LOGIN_MEMBER_ATTRIBUTE = LoginCheckInterceptor.class.getName() + ".LOGIN_MEMBER";
+
+    private final SessionHolder sessionHolder;
+    private final Map<Method, Boolean> loginRequired = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !isLoginRequired(handlerMethod)) {
+            return true;
+        }
+
+        var loginMember = sessionHolder.getSession();
+        if (loginMember == null) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return false;
+        }
+
+        request.setAttribute(LOGIN_MEMBER_ATTRIBUTE, loginMember);
+        return true;
+    }
+
+    private boolean isLoginRequired(HandlerMethod handlerMethod) {
+        return loginRequired.computeIfAbsent(handlerMethod.getMethod(), method ->
+                Arrays.stream(handlerMethod.getMethodParameters())
+                        .anyMatch(parameter -> parameter.hasParameterAnnotation(Login.class)
+                                && LoginMember.class.isAssignableFrom(parameter.getParameterType()))
+        );
+    }
+}
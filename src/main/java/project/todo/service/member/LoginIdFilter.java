@@ -0,0 +1,80 @@
+package project.todo.service.member;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 가입된 로그인 아이디의 Bloom filter
+ * <p>
+ * {@link #mightContain(String)}이 {@code false}이면 해당 아이디는 가입되어 있지 않으므로 DB를 조회할 필요가 없습니다.
+ * {@code true}인 경우에는 가입되지 않은 아이디일 수도 있으므로 DB에서 확인해야 합니다.
+ * 기존 아이디를 모두 등록하기 전에는 항상 {@code true}를 반환합니다.
+ */
+public class LoginIdFilter {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    /**
+     * @param expectedInsertions 예상되는 아이디 수, 이를 초과하면 오탐률이 높아집니다.
+     * @param falsePositiveRate 오탐률
+     */
+    public LoginIdFilter(int expectedInsertions, double falsePositiveRate) {
+        var optimalBitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        var words = (int) Math.max(1, (optimalBitSize + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void add(String loginId) {
+        var hash = hash(loginId);
+        for (int i = 0; i < hashCount; i++) {
+            var index = index(hash, i);
+            var mask = 1L << index;
+            bits.getAndAccumulate((int) (index >>> 6), mask, (current, bit) -> current | bit);
+        }
+    }
+
+    public boolean mightContain(String loginId) {
+        if (!ready) {
+            return true;
+        }
+
+        var hash = hash(loginId);
+        for (int i = 0; i < hashCount; i++) {
+            var index = index(hash, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 기존 아이디를 모두 등록한 후 호출하여 필터를 사용하기 시작합니다.
+     */
+    public void ready() {
+        this.ready = true;
+    }
+
+    private long index(long hash, int i) {
+        var first = (int) hash;
+        var second = (int) (hash >>> 32);
+        var combined = first + (long) i * second;
+        return Math.floorMod(combined, bitSize);
+    }
+
+    private static long hash(String value) {
+        var hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,32 @@
+package project.todo.service.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import project.todo.repository.member.MemberRepository;
+
+/**
+ * 애플리케이션 시작 시 가입된 아이디를 모두 {@link LoginIdFilter}에 등록합니다.
+ * <p>
+ * 필터는 이 서버에서 가입한 아이디만 추가로 등록하므로, 한 서버로 실행하는 {@code todo.session.mode=servlet}에서만 사용합니다.
+ * 여러 서버로 실행하는 token, store 모드에서는 필터를 사용하지 않고 항상 DB를 조회하여 다른 서버에서 가입한 회원도 로그인할 수 있습니다.
+ */
+@ConditionalOnProperty(name = "todo.session.mode", havingValue = "servlet", matchIfMissing = true)
+@RequiredArgsConstructor
+@Component
+public class LoginIdFilterInitializer {
+    private final MemberRepository memberRepository;
+    private final LoginIdFilter loginIdFilter;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try (var loginIds = memberRepository.streamAllLoginIds()) {
+            loginIds.forEach(loginIdFilter::add);
+        }
+        loginIdFilter.ready();
+    }
+}
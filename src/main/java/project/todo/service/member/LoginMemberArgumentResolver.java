@@ -5,6 +5,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 import project.todo.service.security.SessionHolder;
@@ -23,8 +24,16 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
         return hasLoginAnnotation && hasMemberType;
     }
 
+    /**
+     * {@link LoginCheckInterceptor}가 조회한 로그인 정보를 사용하며, 없는 경우에만 세션을 조회합니다.
+     */
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        var loginMember = webRequest.getAttribute(LoginCheckInterceptor.LOGIN_MEMBER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (loginMember != null) {
+            return loginMember;
+        }
+
         return sessionHolder.getSession();
     }
 }
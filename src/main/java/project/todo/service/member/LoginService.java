@@ -3,8 +3,8 @@ package project.todo.service.member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import project.todo.exception.member.LoginFailedException;
-import project.todo.model.member.Member;
 import project.todo.repository.member.MemberRepository;
+import project.todo.service.member.dto.MemberCredential;
 import project.todo.service.member.dto.MemberLoginRequest;
 import project.todo.service.security.PasswordEncrypt;
 import project.todo.service.security.dto.LoginMember;
@@ -17,26 +17,52 @@ import project.todo.service.security.dto.LoginMember;
 public class LoginService {
     private final MemberRepository memberRepository;
     private final PasswordEncrypt passwordEncrypt;
+    private final LoginIdFilter loginIdFilter;
+    private final MemberCredentialCache memberCredentialCache;
 
     /**
      * 로그인 요청을 처리하여 로그인된 사용자 정보를 반환합니다.
+     * <p>
+     * 이전 방식으로 해싱된 비밀번호는 로그인에 성공하면 현재 방식으로 다시 해싱하여 저장합니다.
+     * 해싱 중에는 DB 커넥션을 점유하지 않도록 트랜잭션을 사용하지 않습니다.
      * @param request 로그인 요청 객체
      * @return {@link LoginMember} 로그인된 객체
      */
     public LoginMember login(MemberLoginRequest request) {
-        var member = getMemberByLoginId(request.loginId());
-        checkPasswordMatches(member, request.password());
+        var credential = getCredentialByLoginId(request.loginId());
+        checkPasswordMatches(credential, request.password());
+        rehashIfNeeded(request.loginId(), credential, request.password());
 
-        return LoginMember.from(member);
+        return credential.toLoginMember();
     }
 
-    private Member getMemberByLoginId(String loginId) {
-        return memberRepository.findByLoginId(loginId)
+    /**
+     * 가입되지 않은 것이 확실한 아이디는 DB를 조회하지 않습니다.
+     * 필터를 사용하지 않는 모드에서는 {@link LoginIdFilter#mightContain(String)}이 항상 {@code true}이므로 DB를 조회합니다.
+     */
+    private MemberCredential getCredentialByLoginId(String loginId) {
+        if (!loginIdFilter.mightContain(loginId)) {
+            throw new LoginFailedException("로그인 정보가 일치하지 않습니다.");
+        }
+
+        return memberCredentialCache.get(loginId, this::findCredential)
                 .orElseThrow(() -> new LoginFailedException("로그인 정보가 일치하지 않습니다."));
     }
 
-    private void checkPasswordMatches(Member member, String password) {
-        var hashedPassword = passwordEncrypt.toHash(password);
-        member.validatePassword(hashedPassword);
+    private MemberCredential findCredential(String loginId) {
+        return memberRepository.findByLoginId(loginId)
+                .map(MemberCredential::from)
+                .orElse(null);
+    }
+
+    private void checkPasswordMatches(MemberCredential credential, String password) {
+        credential.validatePassword(hashedPassword -> passwordEncrypt.matches(password, hashedPassword));
+    }
+
+    private void rehashIfNeeded(String loginId, MemberCredential credential, String password) {
+        if (passwordEncrypt.needsRehash(credential.password())) {
+            memberRepository.updatePassword(credential.memberId(), passwordEncrypt.toHash(password));
+            memberCredentialCache.invalidate(loginId);
+        }
     }
 }
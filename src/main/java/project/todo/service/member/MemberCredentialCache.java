@@ -0,0 +1,56 @@
+package project.todo.service.member;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import project.todo.service.member.dto.MemberCredential;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 로그인 아이디별 회원 인증 정보 캐시
+ * <p>
+ * 크기와 유지 시간이 제한되어 있으며, 존재하지 않는 아이디는 캐싱하지 않습니다.
+ */
+public class MemberCredentialCache {
+    private final AsyncCache<String, MemberCredential> cache;
+
+    public MemberCredentialCache(long maximumSize, Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .buildAsync();
+    }
+
+    /**
+     * 조회 함수는 캐시의 잠금 밖에서 실행합니다.
+     * 잠금 안에서 DB를 조회하면 같은 영역의 다른 아이디 조회가 대기하고, 가상 스레드에서는 캐리어 스레드가 고정(pinning)되기 때문입니다.
+     * <p>
+     * 조회 중인 결과를 먼저 캐시에 등록하므로 같은 아이디의 동시 조회는 한 번만 실행되며,
+     * 조회 중에 {@link #invalidate(String)}가 호출되면 조회한 결과는 캐시에 남지 않습니다.
+     *
+     * @param loader 캐시에 없을 때 회원 정보를 조회하는 함수, 회원이 없으면 {@code null}을 반환
+     */
+    public Optional<MemberCredential> get(String loginId, Function<String, MemberCredential> loader) {
+        var loading = new CompletableFuture<MemberCredential>();
+        var cached = cache.asMap().putIfAbsent(loginId, loading);
+        if (cached != null) {
+            return Optional.ofNullable(cached.join());
+        }
+
+        try {
+            var credential = loader.apply(loginId);
+            loading.complete(credential);
+            return Optional.ofNullable(credential);
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidate(String loginId) {
+        cache.synchronous().invalidate(loginId);
+    }
+}
@@ -0,0 +1,20 @@
+package project.todo.service.member;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableConfigurationProperties(MemberLookupProperties.class)
+@Configuration
+public class MemberLookupConfig {
+
+    @Bean
+    public MemberCredentialCache memberCredentialCache(MemberLookupProperties properties) {
+        return new MemberCredentialCache(properties.cacheMaximumSize(), properties.cacheExpireAfterWrite());
+    }
+
+    @Bean
+    public LoginIdFilter loginIdFilter(MemberLookupProperties properties) {
+        return new LoginIdFilter(properties.filterExpectedInsertions(), properties.filterFalsePositiveRate());
+    }
+}
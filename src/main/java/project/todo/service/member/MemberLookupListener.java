@@ -0,0 +1,25 @@
+package project.todo.service.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import project.todo.service.member.event.MemberRegisteredEvent;
+
+/**
+ * 회원가입을 {@link LoginIdFilter}와 {@link MemberCredentialCache}에 반영합니다.
+ * <p>
+ * 가입한 회원을 저장하기 전에 필터에 등록하므로 저장이 끝나면 바로 로그인할 수 있으며,
+ * 저장에 실패한 아이디가 필터에 남더라도 오탐일 뿐이므로 DB 조회로 확인됩니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class MemberLookupListener {
+    private final LoginIdFilter loginIdFilter;
+    private final MemberCredentialCache memberCredentialCache;
+
+    @EventListener
+    public void registered(MemberRegisteredEvent event) {
+        loginIdFilter.add(event.loginId());
+        memberCredentialCache.invalidate(event.loginId());
+    }
+}
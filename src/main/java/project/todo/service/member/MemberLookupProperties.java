@@ -0,0 +1,23 @@
+package project.todo.service.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 로그인 아이디 조회 캐시 설정
+ *
+ * @param cacheMaximumSize 캐싱할 최대 회원 수
+ * @param cacheExpireAfterWrite 캐시 유지 시간
+ * @param filterExpectedInsertions Bloom filter에 등록될 것으로 예상되는 아이디 수
+ * @param filterFalsePositiveRate Bloom filter 오탐률
+ */
+@ConfigurationProperties(prefix = "todo.member.lookup")
+public record MemberLookupProperties(
+        @DefaultValue("10000") long cacheMaximumSize,
+        @DefaultValue("10m") Duration cacheExpireAfterWrite,
+        @DefaultValue("1000000") int filterExpectedInsertions,
+        @DefaultValue("0.01") double filterFalsePositiveRate
+) {
+}
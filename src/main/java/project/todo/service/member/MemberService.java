@@ -1,12 +1,18 @@
 package project.todo.service.member;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import project.todo.model.member.Member;
 import project.todo.repository.member.MemberRepository;
 import project.todo.service.member.dto.MemberCreateRequest;
+import project.todo.service.member.event.MemberRegisteredEvent;
 import project.todo.service.security.PasswordEncrypt;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+
 /**
  * 회원 관련 요청을 처리하는 서비스 클래스
  */
@@ -15,9 +21,15 @@ import project.todo.service.security.PasswordEncrypt;
 public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncrypt passwordEncrypt;
+    private final LoginIdFilter loginIdFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     /**
      * 아이디 중복검사를 거쳐 회원가입을 진행합니다.
+     * <p>
+     * 동시에 같은 아이디로 가입하는 경우는 login_id 유니크 제약 조건으로 막습니다.
+     * 저장하기 전에 {@link MemberRegisteredEvent}를 발행하여 가입한 아이디를 로그인 아이디 필터에 등록합니다.
      * @param request 회원가입 요청 객체
      */
     public void register(MemberCreateRequest request) {
@@ -26,14 +38,23 @@ public class MemberService {
                 request.name(),
                 request.loginId(),
                 encryptPassword(request.password()),
-                request.email()
+                request.email(),
+                LocalDateTime.now(clock)
         );
 
-        memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberRegisteredEvent(member.getLoginId()));
+        try {
+            memberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 존재하는 아이디 입니다.");
+        }
     }
 
+    /**
+     * 가입되지 않은 것이 확실한 아이디는 DB를 조회하지 않습니다.
+     */
     private void checkDuplicateLoginId(String loginId) {
-        if (memberRepository.existsByLoginId(loginId)) {
+        if (loginIdFilter.mightContain(loginId) && memberRepository.existsByLoginId(loginId)) {
             throw new IllegalStateException("이미 존재하는 아이디 입니다.");
         }
     }
@@ -0,0 +1,38 @@
+package project.todo.service.member.dto;
+
+import project.todo.exception.member.LoginFailedException;
+import project.todo.model.member.Member;
+import project.todo.service.security.dto.LoginMember;
+
+import java.util.function.Predicate;
+
+/**
+ * 로그인 검증에 필요한 회원 정보
+ */
+public record MemberCredential(
+        Long memberId,
+        String name,
+        String password
+) {
+
+    public static MemberCredential from(Member member) {
+        return new MemberCredential(
+                member.getId(),
+                member.getName(),
+                member.getPassword()
+        );
+    }
+
+    /**
+     * @param passwordMatcher 저장된 비밀번호 해시 값이 입력된 비밀번호와 일치하는지 판단하는 함수
+     */
+    public void validatePassword(Predicate<String> passwordMatcher) {
+        if (!passwordMatcher.test(password)) {
+            throw new LoginFailedException("로그인 정보가 일치하지 않습니다.");
+        }
+    }
+
+    public LoginMember toLoginMember() {
+        return new LoginMember(memberId, name);
+    }
+}
@@ -0,0 +1,11 @@
+package project.todo.service.member.event;
+
+/**
+ * 회원가입 요청이 처리되었음을 알리는 이벤트
+ *
+ * @param loginId 가입한 회원의 로그인 아이디
+ */
+public record MemberRegisteredEvent(
+        String loginId
+) {
+}
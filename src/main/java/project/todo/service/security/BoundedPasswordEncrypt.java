@@ -0,0 +1,80 @@
+package project.todo.service.security;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import project.todo.exception.member.PasswordHashException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 해싱을 전용 스레드 풀에서 실행합니다.
+ * <p>
+ * 풀과 대기열의 크기가 제한되어 있어 로그인 요청이 몰리더라도 해싱에 사용되는 CPU가 제한됩니다.
+ * 요청 스레드는 해싱 결과를 제한 시간까지 기다리며, 풀과 대기열이 가득 차 있으면 기다리지 않고 바로,
+ * 제한 시간을 넘기면 해싱을 취소하고 {@link PasswordHashException}을 발생시킵니다.
+ */
+public class BoundedPasswordEncrypt implements PasswordEncrypt, AutoCloseable {
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncrypt delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+
+    public BoundedPasswordEncrypt(PasswordEncrypt delegate, ThreadPoolTaskExecutor executor, Duration timeout) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String toHash(String rawPassword) {
+        return execute(() -> delegate.toHash(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        return execute(() -> delegate.matches(rawPassword, hashedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        return delegate.needsRehash(hashedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        var future = submit(task);
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashException(BUSY_MESSAGE);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
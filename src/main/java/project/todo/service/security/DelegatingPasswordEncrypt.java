@@ -0,0 +1,36 @@
+package project.todo.service.security;
+
+/**
+ * 새로운 비밀번호는 PBKDF2로 해싱하고, 저장된 해시 값의 형식에 따라 검증 방식을 선택합니다.
+ * <p>
+ * 이전 방식(SHA-256)으로 저장된 해시 값은 {@link #needsRehash(String)}가 {@code true}를 반환하므로
+ * 로그인 시 PBKDF2로 다시 해싱하여 점진적으로 전환됩니다.
+ */
+public class DelegatingPasswordEncrypt implements PasswordEncrypt {
+    private final Pbkdf2PasswordEncrypt current;
+    private final PasswordEncrypt legacy;
+
+    public DelegatingPasswordEncrypt(Pbkdf2PasswordEncrypt current, PasswordEncrypt legacy) {
+        this.current = current;
+        this.legacy = legacy;
+    }
+
+    @Override
+    public String toHash(String rawPassword) {
+        return current.toHash(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        if (current.supports(hashedPassword)) {
+            return current.matches(rawPassword, hashedPassword);
+        }
+
+        return legacy.matches(rawPassword, hashedPassword);
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        return current.needsRehash(hashedPassword);
+    }
+}
@@ -0,0 +1,118 @@
+package project.todo.service.security;
+
+import project.todo.service.security.dto.LoginMember;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * 세션마다 하나의 파일로 저장하는 세션 저장소
+ * <p>
+ * 애플리케이션을 재시작해도 세션이 유지되며, 디렉터리를 공유하면 여러 서버에서 같은 세션을 사용할 수 있습니다.
+ * 파일은 임시 파일에 쓴 뒤 이동하므로 읽는 쪽에서 일부만 쓰인 파일을 보지 않습니다.
+ */
+public class FileSessionStore implements SessionStore {
+    private static final Pattern SESSION_ID = Pattern.compile("[A-Za-z0-9_-]{16,64}");
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String DELIMITER = "\n";
+
+    private final Path directory;
+
+    public FileSessionStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<StoredSession> find(String sessionId) {
+        if (!isValid(sessionId)) {
+            return Optional.empty();
+        }
+
+        return read(directory.resolve(sessionId));
+    }
+
+    @Override
+    public void save(String sessionId, StoredSession session) {
+        if (!isValid(sessionId)) {
+            throw new IllegalArgumentException("잘못된 세션 ID입니다.");
+        }
+
+        var loginMember = session.loginMember();
+        var content = loginMember.id()
+                + DELIMITER + session.expiresAt().getEpochSecond()
+                + DELIMITER + loginMember.name();
+        try {
+            var tempFile = Files.createTempFile(directory, sessionId, TEMP_SUFFIX);
+            Files.writeString(tempFile, content, StandardCharsets.UTF_8);
+            Files.move(tempFile, directory.resolve(sessionId), ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        if (!isValid(sessionId)) {
+            return;
+        }
+
+        delete(directory.resolve(sessionId));
+    }
+
+    @Override
+    public void removeExpired(Instant now) {
+        try (var files = Files.list(directory)) {
+            files.filter(file -> isValid(file.getFileName().toString()))
+                    .filter(file -> read(file).map(session -> session.isExpired(now)).orElse(true))
+                    .forEach(this::delete);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<StoredSession> read(Path file) {
+        try {
+            var values = Files.readString(file, StandardCharsets.UTF_8).split(DELIMITER, 3);
+            return Optional.of(new StoredSession(
+                    new LoginMember(Long.parseLong(values[0]), values[2]),
+                    Instant.ofEpochSecond(Long.parseLong(values[1]))
+            ));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 세션 ID를 그대로 파일 이름으로 사용하므로 허용된 문자로만 구성되어야 합니다.
+     */
+    private boolean isValid(String sessionId) {
+        return sessionId != null && SESSION_ID.matcher(sessionId).matches();
+    }
+}
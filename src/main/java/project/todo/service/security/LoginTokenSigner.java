@@ -0,0 +1,105 @@
+package project.todo.service.security;
+
+import project.todo.service.security.dto.LoginMember;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 로그인 정보를 HMAC-SHA256으로 서명한 토큰으로 변환하고 검증합니다.
+ * <p>
+ * 토큰은 {@code base64url(회원ID|만료시각|이름).base64url(서명)} 형식이며,
+ * 같은 비밀 키를 사용하는 모든 서버에서 저장소 없이 검증할 수 있습니다.
+ */
+public class LoginTokenSigner {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_DELIMITER = ".";
+    private static final String PAYLOAD_DELIMITER = "|";
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Mac은 스레드 안전하지 않으므로 키로 초기화한 인스턴스를 복제하여 사용합니다.
+     * 가상 스레드는 요청마다 새로 생성되어 ThreadLocal로 재사용할 수 없으므로, 매번 Provider를 조회하는 대신 복제합니다.
+     */
+    private final Mac prototype;
+
+    public LoginTokenSigner(String secret) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException("세션 토큰 비밀 키는 32바이트 이상이어야 합니다.");
+        }
+
+        var key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.prototype = createMac(key);
+    }
+
+    public String sign(LoginMember loginMember, Instant expiresAt) {
+        var payload = loginMember.id()
+                + PAYLOAD_DELIMITER + expiresAt.getEpochSecond()
+                + PAYLOAD_DELIMITER + loginMember.name();
+        var encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+
+        return encodedPayload + TOKEN_DELIMITER + ENCODER.encodeToString(signature(encodedPayload));
+    }
+
+    /**
+     * @return 서명이 올바르고 만료되지 않은 토큰의 로그인 정보
+     */
+    public Optional<LoginMember> verify(String token, Instant now) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        var delimiterIndex = token.indexOf(TOKEN_DELIMITER);
+        if (delimiterIndex < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            var encodedPayload = token.substring(0, delimiterIndex);
+            var signature = DECODER.decode(token.substring(delimiterIndex + 1));
+            if (!MessageDigest.isEqual(signature, signature(encodedPayload))) {
+                return Optional.empty();
+            }
+
+            var payload = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8);
+            var values = payload.split("\\" + PAYLOAD_DELIMITER, 3);
+            if (now.getEpochSecond() >= Long.parseLong(values[1])) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new LoginMember(Long.parseLong(values[0]), values[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] signature(String encodedPayload) {
+        return newMac().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Mac createMac(SecretKeySpec key) {
+        try {
+            var mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
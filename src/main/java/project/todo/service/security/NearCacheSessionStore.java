@@ -0,0 +1,56 @@
+package project.todo.service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 세션 저장소 앞에 두는 서버별 로컬 캐시
+ * <p>
+ * 다른 서버에서 삭제한 세션은 캐시 유지 시간 동안 이 서버에서 조회될 수 있으므로 유지 시간은 짧게 설정합니다.
+ */
+public class NearCacheSessionStore implements SessionStore {
+    private final SessionStore delegate;
+    private final Cache<String, StoredSession> cache;
+
+    public NearCacheSessionStore(SessionStore delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<StoredSession> find(String sessionId) {
+        var cached = cache.getIfPresent(sessionId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        var session = delegate.find(sessionId);
+        session.ifPresent(value -> cache.put(sessionId, value));
+        return session;
+    }
+
+    @Override
+    public void save(String sessionId, StoredSession session) {
+        delegate.save(sessionId, session);
+        cache.put(sessionId, session);
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        cache.invalidate(sessionId);
+        delegate.remove(sessionId);
+    }
+
+    @Override
+    public void removeExpired(Instant now) {
+        cache.asMap().values().removeIf(session -> session.isExpired(now));
+        delegate.removeExpired(now);
+    }
+}
@@ -1,32 +1,28 @@
 package project.todo.service.security;
 
-import org.springframework.stereotype.Component;
+/**
+ * 비밀번호 해싱 전략
+ */
+public interface PasswordEncrypt {
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+    /**
+     * @param rawPassword 원본 비밀번호
+     * @return 저장할 해시 값
+     */
+    String toHash(String rawPassword);
 
-@Component
-public class PasswordEncrypt {
+    /**
+     * @param rawPassword 원본 비밀번호
+     * @param hashedPassword 저장된 해시 값
+     * @return 원본 비밀번호가 저장된 해시 값과 일치하는지 여부
+     */
+    boolean matches(String rawPassword, String hashedPassword);
 
-    public String toHash(String value) {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("비밀번호를 입력해주세요.");
-        }
-
-        try {
-            MessageDigest instance = MessageDigest.getInstance("SHA-256");
-            instance.update(value.getBytes());
-            return bytesToHex(instance.digest());
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder builder = new StringBuilder();
-        for (byte b : bytes) {
-            builder.append(String.format("%02x", b));
-        }
-        return builder.toString();
+    /**
+     * @param hashedPassword 저장된 해시 값
+     * @return 현재 설정으로 다시 해싱해야 하는지 여부
+     */
+    default boolean needsRehash(String hashedPassword) {
+        return false;
     }
 }
@@ -0,0 +1,35 @@
+package project.todo.service.security;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableConfigurationProperties(PasswordEncryptProperties.class)
+@Configuration
+public class PasswordEncryptConfig {
+
+    /**
+     * 해싱 전용 스레드 풀은 빈으로 등록하지 않습니다.
+     * Executor 빈이 등록되면 Spring Boot의 기본 applicationTaskExecutor가 생성되지 않기 때문입니다.
+     */
+    @Bean
+    public PasswordEncrypt passwordEncrypt(PasswordEncryptProperties properties) {
+        var encrypt = new DelegatingPasswordEncrypt(
+                new Pbkdf2PasswordEncrypt(properties.iterations(), properties.saltLength()),
+                new Sha256PasswordEncrypt()
+        );
+
+        return new BoundedPasswordEncrypt(encrypt, hashExecutor(properties), properties.timeout());
+    }
+
+    private ThreadPoolTaskExecutor hashExecutor(PasswordEncryptProperties properties) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.poolSize());
+        executor.setMaxPoolSize(properties.poolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
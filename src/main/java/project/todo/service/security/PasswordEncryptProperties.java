@@ -0,0 +1,25 @@
+package project.todo.service.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정
+ *
+ * @param iterations PBKDF2 반복 횟수, 값을 올리면 기존 해시는 다음 로그인 시 다시 해싱됩니다.
+ * @param saltLength 솔트 길이(byte)
+ * @param poolSize 해싱 전용 스레드 수
+ * @param queueCapacity 해싱 대기열 크기
+ * @param timeout 해싱 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "todo.security.password")
+public record PasswordEncryptProperties(
+        @DefaultValue("310000") int iterations,
+        @DefaultValue("16") int saltLength,
+        @DefaultValue("4") int poolSize,
+        @DefaultValue("100") int queueCapacity,
+        @DefaultValue("3s") Duration timeout
+) {
+}
@@ -0,0 +1,120 @@
+package project.todo.service.security;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 솔트와 반복 횟수를 적용한 PBKDF2(HMAC-SHA256) 해싱
+ * <p>
+ * 해시 값은 {@code {pbkdf2}반복횟수$솔트$해시} 형식으로 저장되므로,
+ * 반복 횟수를 올리더라도 기존 해시 값을 그대로 검증할 수 있습니다.
+ */
+public class Pbkdf2PasswordEncrypt implements PasswordEncrypt {
+    private static final String PREFIX = "{pbkdf2}";
+    private static final String DELIMITER = "$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int KEY_LENGTH = 256;
+
+    private final int iterations;
+    private final int saltLength;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public Pbkdf2PasswordEncrypt(int iterations, int saltLength) {
+        this.iterations = iterations;
+        this.saltLength = saltLength;
+    }
+
+    @Override
+    public String toHash(String rawPassword) {
+        validatePassword(rawPassword);
+
+        var salt = new byte[saltLength];
+        secureRandom.nextBytes(salt);
+        var hash = derive(rawPassword, salt, iterations);
+
+        return PREFIX + iterations
+                + DELIMITER + encode(salt)
+                + DELIMITER + encode(hash);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        validatePassword(rawPassword);
+
+        var stored = Pbkdf2Hash.parse(hashedPassword);
+        if (stored == null) {
+            return false;
+        }
+
+        var hash = derive(rawPassword, stored.salt(), stored.iterations());
+        return MessageDigest.isEqual(hash, stored.hash());
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        var stored = Pbkdf2Hash.parse(hashedPassword);
+        return stored == null || stored.iterations() < iterations;
+    }
+
+    /**
+     * @return 이 방식으로 해싱된 값인지 여부
+     */
+    public boolean supports(String hashedPassword) {
+        return hashedPassword != null && hashedPassword.startsWith(PREFIX);
+    }
+
+    private void validatePassword(String rawPassword) {
+        if (rawPassword == null || rawPassword.isBlank()) {
+            throw new IllegalArgumentException("비밀번호를 입력해주세요.");
+        }
+    }
+
+    private byte[] derive(String rawPassword, byte[] salt, int iterations) {
+        var spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, KEY_LENGTH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM)
+                    .generateSecret(spec)
+                    .getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static String encode(byte[] value) {
+        return Base64.getEncoder().encodeToString(value);
+    }
+
+    private record Pbkdf2Hash(
+            int iterations,
+            byte[] salt,
+            byte[] hash
+    ) {
+
+        static Pbkdf2Hash parse(String hashedPassword) {
+            if (hashedPassword == null || !hashedPassword.startsWith(PREFIX)) {
+                return null;
+            }
+
+            var values = hashedPassword.substring(PREFIX.length()).split("\\" + DELIMITER);
+            if (values.length != 3) {
+                return null;
+            }
+
+            try {
+                return new Pbkdf2Hash(
+                        Integer.parseInt(values[0]),
+                        Base64.getDecoder().decode(values[1]),
+                        Base64.getDecoder().decode(values[2])
+                );
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
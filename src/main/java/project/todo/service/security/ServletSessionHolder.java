@@ -1,6 +1,7 @@
 package project.todo.service.security;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -8,15 +9,24 @@ import project.todo.service.security.dto.LoginMember;
 
 import java.util.Objects;
 
+/**
+ * 로그인 정보를 서블릿 세션에 저장합니다.
+ * <p>
+ * 세션은 로그인할 때만 생성하며, 조회와 삭제는 기존 세션이 있는 경우에만 처리합니다.
+ */
+@ConditionalOnProperty(name = "todo.session.mode", havingValue = "servlet", matchIfMissing = true)
 @Component
 public class ServletSessionHolder implements SessionHolder {
     private static final String LOGIN_MEMBER_KEY = "LOGIN_MEMBER_KEY";
 
     @Override
     public LoginMember getSession() {
-        var servletRequest = getCurrentRequest();
-        return (LoginMember) servletRequest.getSession()
-                .getAttribute(LOGIN_MEMBER_KEY);
+        var session = getCurrentRequest().getSession(false);
+        if (session == null) {
+            return null;
+        }
+
+        return (LoginMember) session.getAttribute(LOGIN_MEMBER_KEY);
     }
 
     @Override
@@ -28,9 +38,10 @@ public class ServletSessionHolder implements SessionHolder {
 
     @Override
     public void removeSession() {
-        var servletRequest = getCurrentRequest();
-        servletRequest.getSession()
-                .removeAttribute(LOGIN_MEMBER_KEY);
+        var session = getCurrentRequest().getSession(false);
+        if (session != null) {
+            session.removeAttribute(LOGIN_MEMBER_KEY);
+        }
     }
 
     public HttpServletRequest getCurrentRequest() {
@@ -0,0 +1,80 @@
+package project.todo.service.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 현재 요청의 세션 쿠키를 읽고 씁니다.
+ * <p>
+ * 쿠키 대신 {@code Authorization: Bearer} 헤더로 값을 전달할 수도 있습니다.
+ */
+class SessionCookie {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final String name;
+    private final boolean secure;
+
+    SessionCookie(String name, boolean secure) {
+        this.name = name;
+        this.secure = secure;
+    }
+
+    /**
+     * @return 요청에 담긴 세션 값, 없으면 {@code null}
+     */
+    String resolve() {
+        var request = currentRequest();
+        var authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+
+        var cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    void write(String value, Duration maxAge) {
+        var cookie = ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+
+        currentResponse().addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    void clear() {
+        write("", Duration.ZERO);
+    }
+
+    HttpServletRequest currentRequest() {
+        return requestAttributes().getRequest();
+    }
+
+    private HttpServletResponse currentResponse() {
+        return Objects.requireNonNull(requestAttributes().getResponse());
+    }
+
+    private ServletRequestAttributes requestAttributes() {
+        return (ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes());
+    }
+}
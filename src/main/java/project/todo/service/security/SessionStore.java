@@ -0,0 +1,24 @@
+package project.todo.service.security;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 세션 ID별 로그인 정보를 보관하는 저장소
+ */
+public interface SessionStore {
+
+    /**
+     * @return 저장된 세션, 만료 여부는 확인하지 않습니다.
+     */
+    Optional<StoredSession> find(String sessionId);
+
+    void save(String sessionId, StoredSession session);
+
+    void remove(String sessionId);
+
+    /**
+     * 만료된 세션을 모두 삭제합니다.
+     */
+    void removeExpired(Instant now);
+}
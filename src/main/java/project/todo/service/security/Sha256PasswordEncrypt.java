@@ -0,0 +1,52 @@
+package project.todo.service.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 솔트 없이 SHA-256 한 번으로 해싱하는 이전 방식
+ * <p>
+ * 기존 회원의 비밀번호를 검증하는 용도로만 사용합니다.
+ */
+public class Sha256PasswordEncrypt implements PasswordEncrypt {
+    private static final String ALGORITHM = "SHA-256";
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    /**
+     * MessageDigest는 스레드 안전하지 않으므로 스레드마다 하나의 인스턴스를 재사용합니다.
+     */
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(Sha256PasswordEncrypt::createDigest);
+
+    @Override
+    public String toHash(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("비밀번호를 입력해주세요.");
+        }
+
+        var hash = DIGEST.get().digest(value.getBytes(StandardCharsets.UTF_8));
+        return HEX_FORMAT.formatHex(hash);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        if (hashedPassword == null) {
+            return false;
+        }
+
+        var hash = toHash(rawPassword);
+        return MessageDigest.isEqual(
+                hash.getBytes(StandardCharsets.UTF_8),
+                hashedPassword.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
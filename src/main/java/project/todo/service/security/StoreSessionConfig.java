@@ -0,0 +1,36 @@
+package project.todo.service.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code todo.session.mode=store}인 경우 로그인 정보를 세션 저장소에 보관합니다.
+ */
+@ConditionalOnProperty(name = "todo.session.mode", havingValue = "store")
+@EnableConfigurationProperties(StoreSessionProperties.class)
+@EnableScheduling
+@Configuration
+public class StoreSessionConfig {
+
+    @Bean
+    public SessionStore sessionStore(StoreSessionProperties properties) {
+        return new NearCacheSessionStore(
+                new FileSessionStore(properties.directory()),
+                properties.nearCacheMaximumSize(),
+                properties.nearCacheTtl()
+        );
+    }
+
+    @Bean
+    public SessionHolder storeSessionHolder(SessionStore sessionStore, StoreSessionProperties properties) {
+        return new StoreSessionHolder(
+                sessionStore,
+                properties.cookieName(),
+                properties.ttl(),
+                properties.secure()
+        );
+    }
+}
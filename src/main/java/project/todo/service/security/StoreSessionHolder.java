@@ -0,0 +1,96 @@
+package project.todo.service.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import project.todo.service.security.dto.LoginMember;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 로그인 정보를 세션 저장소에 보관하고, 세션 ID를 쿠키로 주고받습니다.
+ * <p>
+ * 로그인할 때마다 새로운 세션 ID를 발급하여 기존 세션 ID를 재사용하지 않습니다.
+ */
+public class StoreSessionHolder implements SessionHolder {
+    private static final String LOGIN_MEMBER_ATTRIBUTE = StoreSessionHolder.class.getName() + ".LOGIN_MEMBER";
+    private static final int SESSION_ID_LENGTH = 32;
+
+    private final SessionStore sessionStore;
+    private final SessionCookie sessionCookie;
+    private final Duration ttl;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public StoreSessionHolder(SessionStore sessionStore, String cookieName, Duration ttl, boolean secure) {
+        this.sessionStore = sessionStore;
+        this.sessionCookie = new SessionCookie(cookieName, secure);
+        this.ttl = ttl;
+    }
+
+    /**
+     * 조회한 로그인 정보는 요청 속성에 보관하여 같은 요청에서 다시 조회하지 않습니다.
+     */
+    @Override
+    public LoginMember getSession() {
+        var request = sessionCookie.currentRequest();
+        if (request.getAttribute(LOGIN_MEMBER_ATTRIBUTE) instanceof LoginMember loginMember) {
+            return loginMember;
+        }
+
+        var loginMember = findSession(sessionCookie.resolve());
+        request.setAttribute(LOGIN_MEMBER_ATTRIBUTE, loginMember);
+        return loginMember;
+    }
+
+    @Override
+    public void setSession(LoginMember loginMember) {
+        removeStoredSession();
+
+        var sessionId = newSessionId();
+        sessionStore.save(sessionId, new StoredSession(loginMember, Instant.now().plus(ttl)));
+
+        sessionCookie.currentRequest().setAttribute(LOGIN_MEMBER_ATTRIBUTE, loginMember);
+        sessionCookie.write(sessionId, ttl);
+    }
+
+    @Override
+    public void removeSession() {
+        removeStoredSession();
+
+        sessionCookie.currentRequest().removeAttribute(LOGIN_MEMBER_ATTRIBUTE);
+        sessionCookie.clear();
+    }
+
+    /**
+     * 만료된 세션을 주기적으로 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.session.store.purge-interval:PT10M}")
+    public void removeExpiredSessions() {
+        sessionStore.removeExpired(Instant.now());
+    }
+
+    private LoginMember findSession(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+
+        return sessionStore.find(sessionId)
+                .filter(session -> !session.isExpired(Instant.now()))
+                .map(StoredSession::loginMember)
+                .orElse(null);
+    }
+
+    private void removeStoredSession() {
+        var sessionId = sessionCookie.resolve();
+        if (sessionId != null) {
+            sessionStore.remove(sessionId);
+        }
+    }
+
+    private String newSessionId() {
+        var bytes = new byte[SESSION_ID_LENGTH];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
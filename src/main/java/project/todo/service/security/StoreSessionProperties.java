@@ -0,0 +1,28 @@
+package project.todo.service.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 세션 저장소 설정
+ *
+ * @param directory 세션 파일을 저장할 디렉터리, 여러 서버가 세션을 공유하려면 같은 디렉터리를 사용해야 합니다.
+ * @param ttl 세션 유효 시간
+ * @param cookieName 세션 ID를 저장하는 쿠키 이름
+ * @param secure HTTPS 요청에만 쿠키를 전송할지 여부
+ * @param nearCacheMaximumSize 서버별 로컬 캐시에 보관할 최대 세션 수
+ * @param nearCacheTtl 서버별 로컬 캐시 유지 시간
+ */
+@ConfigurationProperties(prefix = "todo.session.store")
+public record StoreSessionProperties(
+        @DefaultValue("data/sessions") Path directory,
+        @DefaultValue("12h") Duration ttl,
+        @DefaultValue("TODO_SESSION") String cookieName,
+        @DefaultValue("false") boolean secure,
+        @DefaultValue("10000") long nearCacheMaximumSize,
+        @DefaultValue("5s") Duration nearCacheTtl
+) {
+}
@@ -0,0 +1,18 @@
+package project.todo.service.security;
+
+import project.todo.service.security.dto.LoginMember;
+
+import java.time.Instant;
+
+/**
+ * 세션 저장소에 보관되는 로그인 정보
+ */
+public record StoredSession(
+        LoginMember loginMember,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,25 @@
+package project.todo.service.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code todo.session.mode=token}인 경우 서블릿 세션 대신 서명된 토큰으로 로그인 정보를 관리합니다.
+ */
+@ConditionalOnProperty(name = "todo.session.mode", havingValue = "token")
+@EnableConfigurationProperties(TokenSessionProperties.class)
+@Configuration
+public class TokenSessionConfig {
+
+    @Bean
+    public SessionHolder tokenSessionHolder(TokenSessionProperties properties) {
+        return new TokenSessionHolder(
+                new LoginTokenSigner(properties.secret()),
+                properties.cookieName(),
+                properties.ttl(),
+                properties.secure()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package project.todo.service.security;
+
+import project.todo.service.security.dto.LoginMember;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 로그인 정보를 서명된 토큰으로 쿠키에 저장합니다.
+ * <p>
+ * 서버에 세션을 저장하지 않으므로 요청이 어느 서버로 전달되어도 같은 로그인 정보를 얻을 수 있습니다.
+ * 토큰은 만료 전까지 폐기할 수 없으므로 로그아웃은 쿠키를 삭제하는 것으로 처리합니다.
+ */
+public class TokenSessionHolder implements SessionHolder {
+    private static final String LOGIN_MEMBER_ATTRIBUTE = TokenSessionHolder.class.getName() + ".LOGIN_MEMBER";
+
+    private final LoginTokenSigner signer;
+    private final SessionCookie sessionCookie;
+    private final Duration ttl;
+
+    public TokenSessionHolder(LoginTokenSigner signer, String cookieName, Duration ttl, boolean secure) {
+        this.signer = signer;
+        this.sessionCookie = new SessionCookie(cookieName, secure);
+        this.ttl = ttl;
+    }
+
+    /**
+     * 검증한 로그인 정보는 요청 속성에 보관하여 같은 요청에서 다시 검증하지 않습니다.
+     */
+    @Override
+    public LoginMember getSession() {
+        var request = sessionCookie.currentRequest();
+        if (request.getAttribute(LOGIN_MEMBER_ATTRIBUTE) instanceof LoginMember loginMember) {
+            return loginMember;
+        }
+
+        var loginMember = signer.verify(sessionCookie.resolve(), Instant.now())
+                .orElse(null);
+        request.setAttribute(LOGIN_MEMBER_ATTRIBUTE, loginMember);
+        return loginMember;
+    }
+
+    @Override
+    public void setSession(LoginMember loginMember) {
+        var token = signer.sign(loginMember, Instant.now().plus(ttl));
+
+        sessionCookie.currentRequest().setAttribute(LOGIN_MEMBER_ATTRIBUTE, loginMember);
+        sessionCookie.write(token, ttl);
+    }
+
+    @Override
+    public void removeSession() {
+        sessionCookie.currentRequest().removeAttribute(LOGIN_MEMBER_ATTRIBUTE);
+        sessionCookie.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package project.todo.service.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 토큰 세션 설정
+ *
+ * @param secret 토큰 서명에 사용하는 비밀 키, 모든 서버가 같은 값을 사용해야 합니다.
+ * @param ttl 토큰 유효 시간
+ * @param cookieName 토큰을 저장하는 쿠키 이름
+ * @param secure HTTPS 요청에만 쿠키를 전송할지 여부
+ */
+@ConfigurationProperties(prefix = "todo.session.token")
+public record TokenSessionProperties(
+        String secret,
+        @DefaultValue("12h") Duration ttl,
+        @DefaultValue("TODO_SESSION") String cookieName,
+        @DefaultValue("false") boolean secure
+) {
+}
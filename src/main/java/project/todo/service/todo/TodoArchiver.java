@@ -0,0 +1,30 @@
+package project.todo.service.todo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 마감일이 지난 후 일정 기간이 지난 Todo를 주기적으로 보관 테이블로 옮깁니다.
+ * <p>
+ * 수정할 수 없는 Todo를 Todo/Task 테이블에서 제거하여 목록 조회와 캐시 대상을 작게 유지합니다.
+ * 여러 서버가 동시에 보관하면 같은 Todo를 보관 테이블에 넣다가 충돌하므로 기본으로 실행하지 않으며,
+ * 한 서버에서만 {@code todo.cleanup.archive.enabled=true}로 설정합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TodoArchiver {
+    private final TodoCleanupService todoCleanupService;
+    private final Duration after;
+    private final Clock clock;
+
+    public void archive() {
+        var archived = todoCleanupService.archiveExpiredBefore(LocalDateTime.now(clock).minus(after));
+        if (archived > 0) {
+            log.info("마감일이 {} 이상 지난 Todo {}개를 보관했습니다.", after, archived);
+        }
+    }
+}
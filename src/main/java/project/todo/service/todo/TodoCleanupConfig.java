@@ -0,0 +1,32 @@
+package project.todo.service.todo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+
+import java.time.Clock;
+
+@EnableConfigurationProperties(TodoCleanupProperties.class)
+@EnableScheduling
+@Configuration
+public class TodoCleanupConfig {
+
+    @Bean
+    public TodoArchiver todoArchiver(TodoCleanupService todoCleanupService, TodoCleanupProperties properties, Clock clock) {
+        return new TodoArchiver(todoCleanupService, properties.archive().after(), clock);
+    }
+
+    /**
+     * 바인딩된 실행 간격({@link TodoCleanupProperties.Archive#interval()})으로 보관 작업을 등록합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "todo.cleanup.archive.enabled", havingValue = "true")
+    public SchedulingConfigurer todoArchiverSchedule(TodoArchiver todoArchiver, TodoCleanupProperties properties) {
+        var interval = properties.archive().interval();
+        return registrar -> registrar.addFixedDelayTask(new FixedDelayTask(todoArchiver::archive, interval, interval));
+    }
+}
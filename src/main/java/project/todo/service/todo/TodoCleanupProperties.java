@@ -0,0 +1,33 @@
+package project.todo.service.todo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Todo 일괄 삭제/보관 설정
+ *
+ * @param chunkSize 한 트랜잭션에서 삭제하거나 보관할 최대 Todo 수
+ * @param archive 마감일이 지난 Todo를 주기적으로 보관하는 작업 설정
+ */
+@ConfigurationProperties(prefix = "todo.cleanup")
+public record TodoCleanupProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue Archive archive
+) {
+
+    /**
+     * @param enabled 주기적인 보관 작업 사용 여부, 여러 서버 중 한 서버에서만 사용합니다.
+     * @param after 마감일이 지난 후 보관할 때까지의 기간
+     * @param batchSize 한 트랜잭션에서 보관할 최대 Todo 수
+     * @param interval 보관 작업 실행 간격 (예: 1h)
+     */
+    public record Archive(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("30d") Duration after,
+            @DefaultValue("100") int batchSize,
+            @DefaultValue("1h") Duration interval
+    ) {
+    }
+}
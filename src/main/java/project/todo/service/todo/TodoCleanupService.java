@@ -0,0 +1,158 @@
+package project.todo.service.todo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.todo.model.todo.Status;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.repository.todo.dto.TodoWriterRow;
+import project.todo.repository.todo.archive.ArchivedTaskRepository;
+import project.todo.repository.todo.archive.ArchivedTodoRepository;
+import project.todo.repository.todo.task.TaskRepository;
+import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.dto.TodoCleanupResponse;
+import project.todo.service.todo.event.TodoChangeType;
+import project.todo.service.todo.event.TodoChangedEvent;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 회원의 완료된 Todo 또는 마감일이 지난 Todo를 일괄 삭제하거나 보관하는 서비스 클래스
+ * <p>
+ * 대상 Todo를 {@link TodoCleanupProperties#chunkSize()}개씩 나누어 각각의 트랜잭션에서 처리하므로,
+ * 처리할 Todo가 많아도 한 트랜잭션이 잠금을 오래 유지하지 않습니다.
+ * 각 트랜잭션에서는 Todo와 Task를 조회하지 않고 INSERT ... SELECT, DELETE 문으로 처리하며,
+ * 커밋될 때마다 {@link TodoChangedEvent}를 발행합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class TodoCleanupService {
+    private final TodoRepository todoRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoCleanupProperties properties;
+    private final Clock clock;
+
+    /**
+     * 완료된 Todo와 포함된 Task를 모두 삭제합니다.
+     */
+    public TodoCleanupResponse deleteCompleted(LoginMember loginMember) {
+        return processInChunks(loginMember, completedTodoIds(loginMember), this::delete, TodoChangeType.TODOS_DELETED);
+    }
+
+    /**
+     * 마감일이 지난 Todo와 포함된 Task를 모두 삭제합니다.
+     */
+    public TodoCleanupResponse deleteExpired(LoginMember loginMember) {
+        return processInChunks(loginMember, expiredTodoIds(loginMember), this::delete, TodoChangeType.TODOS_DELETED);
+    }
+
+    /**
+     * 완료된 Todo와 포함된 Task를 모두 보관 테이블로 옮깁니다.
+     */
+    public TodoCleanupResponse archiveCompleted(LoginMember loginMember) {
+        return processInChunks(loginMember, completedTodoIds(loginMember), this::archive, TodoChangeType.TODOS_ARCHIVED);
+    }
+
+    /**
+     * 마감일이 지난 Todo와 포함된 Task를 모두 보관 테이블로 옮깁니다.
+     */
+    public TodoCleanupResponse archiveExpired(LoginMember loginMember) {
+        return processInChunks(loginMember, expiredTodoIds(loginMember), this::archive, TodoChangeType.TODOS_ARCHIVED);
+    }
+
+    private Function<Pageable, List<Long>> completedTodoIds(LoginMember loginMember) {
+        return chunk -> todoRepository.findIdsByWriterIdAndStatus(loginMember.id(), Status.COMPLETE, chunk);
+    }
+
+    /**
+     * 처리 중에 마감일이 지나는 Todo는 대상에 포함하지 않도록 시작 시각을 기준으로 조회합니다.
+     */
+    private Function<Pageable, List<Long>> expiredTodoIds(LoginMember loginMember) {
+        var now = LocalDateTime.now(clock);
+        return chunk -> todoRepository.findIdsByWriterIdAndDeadlineBefore(loginMember.id(), now, chunk);
+    }
+
+    /**
+     * 모든 회원의 Todo 중 마감일이 기준 시각 이전인 Todo를 보관 테이블로 옮깁니다.
+     *
+     * @param deadline 보관할 Todo의 마감일 기준 시각
+     * @return 보관된 Todo 개수
+     */
+    public int archiveExpiredBefore(LocalDateTime deadline) {
+        var chunk = PageRequest.ofSize(properties.archive().batchSize());
+
+        return repeatInTransactions(chunk, () -> {
+            var todos = todoRepository.findWritersByDeadlineBefore(deadline, chunk);
+            if (!todos.isEmpty()) {
+                archive(todos.stream().map(TodoWriterRow::todoId).toList());
+                todos.stream()
+                        .map(TodoWriterRow::writerId)
+                        .distinct()
+                        .forEach(writerId -> publishChanged(writerId, TodoChangeType.TODOS_ARCHIVED));
+            }
+            return todos.size();
+        });
+    }
+
+    private TodoCleanupResponse processInChunks(
+            LoginMember loginMember,
+            Function<Pageable, List<Long>> findTodoIds,
+            Consumer<List<Long>> process,
+            TodoChangeType type
+    ) {
+        var chunk = PageRequest.ofSize(properties.chunkSize());
+
+        var total = repeatInTransactions(chunk, () -> {
+            var todoIds = findTodoIds.apply(chunk);
+            if (!todoIds.isEmpty()) {
+                process.accept(todoIds);
+                publishChanged(loginMember.id(), type);
+            }
+            return todoIds.size();
+        });
+        return new TodoCleanupResponse(total);
+    }
+
+    /**
+     * 처리된 개수가 청크 크기보다 작아질 때까지 청크마다 새로운 트랜잭션에서 처리합니다.
+     */
+    private int repeatInTransactions(Pageable chunk, Supplier<Integer> processChunk) {
+        var total = 0;
+
+        while (true) {
+            var processed = transactionTemplate.execute(status -> processChunk.get());
+
+            total += processed;
+            if (processed < chunk.getPageSize()) {
+                return total;
+            }
+        }
+    }
+
+    private void delete(List<Long> todoIds) {
+        taskRepository.deleteAllByTodoIdIn(todoIds);
+        todoRepository.deleteAllByIdInBulk(todoIds);
+    }
+
+    private void archive(List<Long> todoIds) {
+        archivedTodoRepository.archiveAllByIdIn(todoIds);
+        archivedTaskRepository.archiveAllByTodoIdIn(todoIds);
+        delete(todoIds);
+    }
+
+    private void publishChanged(Long memberId, TodoChangeType type) {
+        eventPublisher.publishEvent(new TodoChangedEvent(memberId, null, type));
+    }
+}
@@ -0,0 +1,165 @@
+package project.todo.service.todo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import project.todo.service.todo.dto.TodoChangeResponse;
+import project.todo.service.todo.event.TodoChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원별 Todo 변경 이벤트를 SSE로 전달합니다.
+ * <p>
+ * 변경 사항이 커밋되면 해당 회원의 모든 구독자 버퍼에 이벤트를 넣고, 적은 수의 전송 스레드가 구독자별로 전송합니다.
+ * 연결은 비동기 요청으로 유지되므로 구독자마다 스레드를 점유하지 않으며, 주기적으로 heartbeat를 보내 끊어진 연결을 정리합니다.
+ * <p>
+ * 전송은 응답에 직접 쓰므로 느린 클라이언트에게 전송하는 동안 전송 스레드가 멈춥니다.
+ * 이벤트 하나의 전송이 {@link TodoStreamProperties#sendTimeout()}을 넘기면 구독을 종료하고,
+ * 멈춘 스레드가 돌아올 때까지 전송 스레드를 하나씩 보충하여 다른 구독자의 전송이 늦어지지 않도록 합니다.
+ */
+public class TodoEventStream implements AutoCloseable {
+    private final TodoStreamProperties properties;
+    private final ThreadPoolTaskExecutor sender;
+    private final ThreadPoolTaskScheduler heartbeatScheduler;
+    private final Map<Long, List<TodoSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Counter dropped;
+    private final Counter stalled;
+    private final ReentrantLock senderResizeLock = new ReentrantLock();
+
+    public TodoEventStream(TodoStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sender = sender(properties.senderThreads());
+        this.heartbeatScheduler = heartbeatScheduler();
+        this.heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, properties.heartbeatInterval());
+        this.heartbeatScheduler.scheduleWithFixedDelay(this::closeStalledSubscribers, properties.sendTimeout());
+        this.dropped = Counter.builder("todo.stream.dropped").register(meterRegistry);
+        this.stalled = Counter.builder("todo.stream.stalled").register(meterRegistry);
+        Gauge.builder("todo.stream.subscribers", this, TodoEventStream::subscriberCount).register(meterRegistry);
+    }
+
+    /**
+     * 회원의 Todo 변경 이벤트를 구독합니다.
+     */
+    public SseEmitter subscribe(Long memberId) {
+        var emitter = new SseEmitter(properties.timeout().toMillis());
+        var subscriber = new TodoSubscriber(emitter, properties.bufferSize(), sender, () -> resizeSender(-1));
+
+        var evicted = new ArrayList<TodoSubscriber>();
+        subscribers.compute(memberId, (id, memberSubscribers) -> {
+            var current = memberSubscribers == null ? new CopyOnWriteArrayList<TodoSubscriber>() : memberSubscribers;
+            current.add(subscriber);
+            while (current.size() > properties.maxSubscriptionsPerMember()) {
+                evicted.add(current.remove(0));
+            }
+            return current;
+        });
+        evicted.forEach(TodoSubscriber::complete);
+
+        emitter.onCompletion(() -> remove(memberId, subscriber));
+        emitter.onTimeout(() -> remove(memberId, subscriber));
+        emitter.onError(e -> remove(memberId, subscriber));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void changed(TodoChangedEvent event) {
+        var memberSubscribers = subscribers.get(event.memberId());
+        if (memberSubscribers == null) {
+            return;
+        }
+
+        var response = TodoChangeResponse.from(event);
+        for (var subscriber : memberSubscribers) {
+            if (subscriber.offer(response)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        heartbeatScheduler.shutdown();
+        subscribers.values().forEach(memberSubscribers -> memberSubscribers.forEach(TodoSubscriber::complete));
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(memberSubscribers -> memberSubscribers.forEach(TodoSubscriber::heartbeat));
+    }
+
+    /**
+     * 제한 시간을 넘겨 전송 중인 구독자를 종료하고, 멈춘 전송 스레드 대신 사용할 스레드를 추가합니다.
+     */
+    private void closeStalledSubscribers() {
+        var now = System.nanoTime();
+        subscribers.forEach((memberId, memberSubscribers) -> memberSubscribers.forEach(subscriber -> {
+            if (subscriber.closeIfStalled(now, properties.sendTimeout())) {
+                stalled.increment();
+                resizeSender(1);
+                remove(memberId, subscriber);
+            }
+        }));
+    }
+
+    /**
+     * 최대 스레드 수가 기본 스레드 수보다 작아지지 않도록 늘릴 때는 최대 스레드 수를, 줄일 때는 기본 스레드 수를 먼저 변경합니다.
+     */
+    private void resizeSender(int delta) {
+        senderResizeLock.lock();
+        try {
+            var size = sender.getCorePoolSize() + delta;
+            if (delta > 0) {
+                sender.setMaxPoolSize(size);
+                sender.setCorePoolSize(size);
+            } else {
+                sender.setCorePoolSize(size);
+                sender.setMaxPoolSize(size);
+            }
+        } finally {
+            senderResizeLock.unlock();
+        }
+    }
+
+    private void remove(Long memberId, TodoSubscriber subscriber) {
+        subscribers.computeIfPresent(memberId, (id, memberSubscribers) -> {
+            memberSubscribers.remove(subscriber);
+            return memberSubscribers.isEmpty() ? null : memberSubscribers;
+        });
+    }
+
+    private int subscriberCount() {
+        return subscribers.values().stream()
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    private static ThreadPoolTaskExecutor sender(int threads) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("todo-stream-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    private static ThreadPoolTaskScheduler heartbeatScheduler() {
+        var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("todo-stream-heartbeat-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,39 @@
+package project.todo.service.todo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.todo.repository.todo.TodoRepository;
+
+import java.time.Clock;
+
+@EnableConfigurationProperties(TodoOverdueProperties.class)
+@EnableScheduling
+@Configuration
+public class TodoOverdueConfig {
+
+    @Bean
+    public TodoOverdueSweeper todoOverdueSweeper(
+            TodoRepository todoRepository,
+            TransactionTemplate transactionTemplate,
+            TodoOverdueProperties properties,
+            Clock clock
+    ) {
+        return new TodoOverdueSweeper(todoRepository, transactionTemplate, properties.batchSize(), clock);
+    }
+
+    /**
+     * 바인딩된 실행 간격({@link TodoOverdueProperties#interval()})으로 마감일 확인 작업을 등록합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "todo.overdue.enabled", havingValue = "true", matchIfMissing = true)
+    public SchedulingConfigurer todoOverdueSweeperSchedule(TodoOverdueSweeper todoOverdueSweeper, TodoOverdueProperties properties) {
+        var interval = properties.interval();
+        return registrar -> registrar.addFixedDelayTask(new FixedDelayTask(todoOverdueSweeper::sweep, interval, interval));
+    }
+}
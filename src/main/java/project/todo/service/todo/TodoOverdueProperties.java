@@ -0,0 +1,21 @@
+package project.todo.service.todo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 마감일 초과 기록 작업 설정
+ *
+ * @param enabled 주기적인 마감일 확인 작업 사용 여부
+ * @param batchSize 한 트랜잭션에서 기록할 최대 Todo 수
+ * @param interval 작업 실행 간격 (예: 1m)
+ */
+@ConfigurationProperties(prefix = "todo.overdue")
+public record TodoOverdueProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1m") Duration interval
+) {
+}
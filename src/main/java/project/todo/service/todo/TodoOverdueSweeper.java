@@ -0,0 +1,48 @@
+package project.todo.service.todo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.todo.repository.todo.TodoRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 마감일이 지난 Todo를 주기적으로 찾아 마감일 초과 상태로 기록합니다.
+ * <p>
+ * 아직 기록되지 않은 Todo만 (overdue, deadline) 인덱스로 조회하며,
+ * {@code batchSize}개씩 각각의 트랜잭션에서 하나의 UPDATE 문으로 기록합니다.
+ */
+@RequiredArgsConstructor
+public class TodoOverdueSweeper {
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Clock clock;
+
+    public void sweep() {
+        sweep(LocalDateTime.now(clock));
+    }
+
+    /**
+     * @param now 기준 시각, 마감일이 이 시각 이전인 Todo를 기록합니다.
+     * @return 새로 기록된 Todo 개수
+     */
+    public int sweep(LocalDateTime now) {
+        var batch = PageRequest.ofSize(batchSize);
+        var total = 0;
+
+        while (true) {
+            var marked = transactionTemplate.execute(status -> {
+                var todoIds = todoRepository.findIdsToMarkOverdue(now, batch);
+                return todoIds.isEmpty() ? 0 : todoRepository.markOverdue(todoIds);
+            });
+
+            total += marked;
+            if (marked < batchSize) {
+                return total;
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package project.todo.service.todo;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 회원별 Todo 조회 결과 캐시
+ * <p>
+ * 회원 단위로 목록 조회 결과와 Todo 상세 조회 결과를 보관하며, Todo가 변경되면 해당 회원의 목록과 변경된 Todo의 상세 결과만 삭제합니다.
+ * 조회 중에 변경이 일어난 경우 조회한 결과를 캐시에 남기지 않으므로 변경 전 결과가 다시 캐싱되지 않습니다.
+ * 변경을 커밋한 서버에서는 바로 삭제되며, 다른 서버에서 커밋된 변경은 조회할 때 회원의 Todo 버전을 비교하여 반영합니다.
+ * 버전은 {@link TodoVersions}가 서버에 보관한 값을 사용하므로, 캐시된 결과를 반환할 때 DB를 조회하지 않습니다.
+ * 조회 빈도와 관계없이 캐싱한 후 유지 시간이 지나면 만료됩니다.
+ */
+public class TodoReadCache {
+    private static final String METRIC_NAME = "todo.read.cache";
+
+    private final boolean enabled;
+    private final int maximumEntriesPerMember;
+    private final Cache<Long, MemberEntries> cache;
+    private final ToLongFunction<Long> versions;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param versions 회원의 현재 Todo 버전을 조회하는 함수, 여러 서버가 같은 값을 사용하며 DB를 매번 조회하지 않아야 합니다.
+     */
+    public TodoReadCache(TodoReadCacheProperties properties, MeterRegistry meterRegistry, ToLongFunction<Long> versions) {
+        this.versions = versions;
+        this.enabled = properties.enabled();
+        this.maximumEntriesPerMember = properties.maximumEntriesPerMember();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumMembers())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .build();
+        this.hits = Counter.builder(METRIC_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".members", cache, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * @param key 목록 조회 조건
+     * @param loader 캐시에 없을 때 목록을 조회하는 함수
+     */
+    public <T> T getTodos(Long memberId, Object key, Supplier<T> loader) {
+        return get(memberId, new ListKey(key), loader);
+    }
+
+    /**
+     * @param loader 캐시에 없을 때 Todo 상세 정보를 조회하는 함수
+     */
+    public <T> T getTodo(Long memberId, Long todoId, Supplier<T> loader) {
+        return get(memberId, new TodoKey(todoId), loader);
+    }
+
+    /**
+     * 회원의 모든 목록 조회 결과와 해당 Todo의 상세 조회 결과를 삭제합니다.
+     *
+     * @param todoId 변경된 Todo의 ID, {@code null}이면 회원의 모든 조회 결과를 삭제합니다.
+     */
+    public void invalidate(Long memberId, Long todoId) {
+        if (todoId == null) {
+            cache.invalidate(memberId);
+            return;
+        }
+
+        var entries = cache.getIfPresent(memberId);
+        if (entries != null) {
+            entries.invalidate(new TodoKey(todoId));
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Long memberId, Object key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        var entries = currentEntries(memberId);
+        if (entries == null) {
+            misses.increment();
+            return loader.get();
+        }
+
+        var cached = entries.values.get(key);
+        if (cached != null) {
+            hits.increment();
+            return (T) cached;
+        }
+
+        misses.increment();
+        var generation = entries.generation.get();
+        var value = loader.get();
+        entries.put(generation, key, value, maximumEntriesPerMember);
+        return value;
+    }
+
+    /**
+     * 다른 서버에서 커밋된 변경으로 버전이 바뀌었다면 회원의 조회 결과를 모두 새로 캐싱합니다.
+     *
+     * @return 현재 버전의 조회 결과, 캐시된 결과보다 이전 버전을 조회한 경우 {@code null}
+     */
+    private MemberEntries currentEntries(Long memberId) {
+        var version = versions.applyAsLong(memberId);
+        var entries = cache.get(memberId, id -> new MemberEntries(version));
+        if (entries.version == version) {
+            return entries;
+        }
+        if (entries.version > version) {
+            return null;
+        }
+
+        var replacement = new MemberEntries(version);
+        cache.asMap().replace(memberId, entries, replacement);
+        return replacement;
+    }
+
+    private record ListKey(Object condition) {
+    }
+
+    private record TodoKey(Long todoId) {
+    }
+
+    private static class MemberEntries {
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+        private final AtomicLong generation = new AtomicLong();
+        private final long version;
+
+        MemberEntries(long version) {
+            this.version = version;
+        }
+
+        /**
+         * 조회를 시작한 이후 변경이 있었다면 조회 결과를 남기지 않습니다.
+         */
+        void put(long expectedGeneration, Object key, Object value, int maximumEntries) {
+            if (maximumEntries <= values.size()) {
+                values.clear();
+            }
+
+            values.put(key, value);
+            if (generation.get() != expectedGeneration) {
+                values.remove(key, value);
+            }
+        }
+
+        void invalidate(TodoKey todoKey) {
+            generation.incrementAndGet();
+            values.keySet().removeIf(key -> key instanceof ListKey || key.equals(todoKey));
+        }
+    }
+}
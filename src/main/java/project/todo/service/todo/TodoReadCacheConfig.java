@@ -0,0 +1,16 @@
+package project.todo.service.todo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableConfigurationProperties(TodoReadCacheProperties.class)
+@Configuration
+public class TodoReadCacheConfig {
+
+    @Bean
+    public TodoReadCache todoReadCache(TodoReadCacheProperties properties, MeterRegistry meterRegistry, TodoVersions todoVersions) {
+        return new TodoReadCache(properties, meterRegistry, todoVersions::version);
+    }
+}
@@ -0,0 +1,21 @@
+package project.todo.service.todo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.todo.service.todo.event.TodoChangedEvent;
+
+/**
+ * 변경 사항이 커밋된 후 Todo 조회 캐시를 삭제합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class TodoReadCacheInvalidator {
+    private final TodoReadCache todoReadCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void invalidate(TodoChangedEvent event) {
+        todoReadCache.invalidate(event.memberId(), event.todoId());
+    }
+}
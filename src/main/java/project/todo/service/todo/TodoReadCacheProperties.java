@@ -0,0 +1,25 @@
+package project.todo.service.todo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Todo 조회 캐시 설정
+ *
+ * @param enabled 캐시 사용 여부
+ * @param maximumMembers 캐싱할 최대 회원 수
+ * @param maximumEntriesPerMember 회원별로 보관할 최대 조회 결과 수
+ * @param expireAfterWrite 캐싱한 후 유지 시간
+ * @param versionCheckInterval 다른 서버에서 커밋된 변경을 확인하기 위해 DB에서 회원의 Todo 버전을 다시 조회하는 주기
+ */
+@ConfigurationProperties(prefix = "todo.read-cache")
+public record TodoReadCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumMembers,
+        @DefaultValue("64") int maximumEntriesPerMember,
+        @DefaultValue("1m") Duration expireAfterWrite,
+        @DefaultValue("1s") Duration versionCheckInterval
+) {
+}
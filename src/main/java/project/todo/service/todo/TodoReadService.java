@@ -1,30 +1,45 @@
 package project.todo.service.todo;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import project.todo.exception.member.MemberException;
 import project.todo.exception.todo.TodoNotFoundException;
 import project.todo.model.todo.Status;
 import project.todo.model.todo.Todo;
-import project.todo.model.todo.task.Task;
+import project.todo.model.todo.archive.ArchivedTodo;
 import project.todo.repository.todo.TodoRepository;
-import project.todo.repository.todo.task.TaskRepository;
+import project.todo.repository.todo.archive.ArchivedTaskRepository;
+import project.todo.repository.todo.archive.ArchivedTodoRepository;
+import project.todo.repository.todo.dto.TodoTaskRow;
 import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.dto.TodoCursor;
+import project.todo.service.todo.dto.TodoPageResponse;
 import project.todo.service.todo.dto.TodoResponse;
 import project.todo.service.todo.dto.TodoWithTasksResponse;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Todo 읽기 작업 요청을 처리하는 서비스 클래스
+ * <p>
+ * 조회 결과는 {@link TodoReadCache}에 보관합니다.
+ * 캐시에서 조회할 때 DB 커넥션을 사용하지 않도록 트랜잭션은 각 Repository의 읽기 전용 트랜잭션을 사용합니다.
+ * 보관된 Todo와 마감일이 지난 Todo 목록은 자주 조회하지 않으므로 캐시하지 않습니다.
  */
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Service
 public class TodoReadService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
-    private final TaskRepository taskRepository;
+    private final TodoReadCache todoReadCache;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
 
     /**
      * 요청 상태에 따라 Todo 목록을 조회합니다.<p>
@@ -36,14 +51,25 @@ public class TodoReadService {
      * @return {@link List<TodoResponse>} Todo 목록 객체
      */
     public List<TodoResponse> findTodos(LoginMember loginMember, Optional<Status> status) {
-        var todos = getTodos(loginMember);
-
-        if (status.isEmpty()) {
-            return toResponse(todos);
-        }
+        var key = new TodoListKey(status.orElse(null), null, 0);
+        return todoReadCache.getTodos(loginMember.id(), key, () -> loadTodos(loginMember, status));
+    }
 
-        var todosByStatus = filterByStatus(todos, status.get());
-        return toResponse(todosByStatus);
+    /**
+     * 요청 상태에 따라 Todo 목록을 마감일, ID 순으로 한 페이지씩 조회합니다.<p>
+     *
+     * - 커서가 주어지지 않으면 첫 페이지를 반환합니다.<p>
+     * - 다음 페이지가 존재하면 응답의 nextCursor로 이어서 조회할 수 있습니다.<p>
+     *
+     * @param status Todo의 상태 (완료 또는 미완료)
+     * @param cursor 이전 페이지 응답의 nextCursor
+     * @param limit 한 페이지에 조회할 Todo 개수 (1 ~ {@value MAX_PAGE_SIZE})
+     * @return {@link TodoPageResponse} Todo 목록과 다음 페이지 커서
+     */
+    public TodoPageResponse findTodos(LoginMember loginMember, Optional<Status> status, String cursor, int limit) {
+        var pageSize = toPageSize(limit);
+        var key = new TodoListKey(status.orElse(null), cursor, pageSize);
+        return todoReadCache.getTodos(loginMember.id(), key, () -> loadTodoPage(loginMember, status, cursor, pageSize));
     }
 
     /**
@@ -53,20 +79,139 @@ public class TodoReadService {
      * @return {@link TodoWithTasksResponse} 특정 Todo와 포함된 전체 Task 포함한 객체
      */
     public TodoWithTasksResponse getTodoWithTasks(LoginMember loginMember, Long todoId) {
-        var todo = getTodoWithValidation(loginMember, todoId);
-        var tasks = getTasks(todo);
+        return todoReadCache.getTodo(loginMember.id(), todoId, () -> loadTodoWithTasks(loginMember, todoId));
+    }
+
+    /**
+     * 마감일이 지난 미완료 Todo 목록을 마감일, ID 순으로 한 페이지씩 조회합니다.<p>
+     *
+     * - 마감일 확인 작업이 기록한 Todo만 조회하므로, 마감일이 지난 직후의 Todo는 다음 작업 이후에 조회됩니다.<p>
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor
+     * @param limit 한 페이지에 조회할 Todo 개수 (1 ~ {@value MAX_PAGE_SIZE})
+     * @return {@link TodoPageResponse} 마감일이 지난 Todo 목록과 다음 페이지 커서
+     */
+    public TodoPageResponse findOverdueTodos(LoginMember loginMember, String cursor, int limit) {
+        var pageSize = toPageSize(limit);
+        var todos = getOverdueTodoPage(loginMember, TodoCursor.decode(cursor), PageRequest.ofSize(pageSize + 1));
+
+        return toPage(todos, pageSize, TodoCursor::from, TodoResponse::from);
+    }
+
+    /**
+     * 보관된 Todo 목록을 마감일, ID 순으로 한 페이지씩 조회합니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor
+     * @param limit 한 페이지에 조회할 Todo 개수 (1 ~ {@value MAX_PAGE_SIZE})
+     * @return {@link TodoPageResponse} 보관된 Todo 목록과 다음 페이지 커서
+     */
+    public TodoPageResponse findArchivedTodos(LoginMember loginMember, String cursor, int limit) {
+        var pageSize = toPageSize(limit);
+        var todos = getArchivedTodoPage(loginMember, TodoCursor.decode(cursor), PageRequest.ofSize(pageSize + 1));
+
+        return toPage(todos, pageSize, TodoCursor::from, TodoResponse::from);
+    }
+
+    /**
+     * 보관된 Todo와 해당 Todo에 포함되었던 모든 Task를 조회합니다.
+     *
+     * @param todoId 조회를 요청한 보관된 Todo의 ID
+     */
+    public TodoWithTasksResponse getArchivedTodoWithTasks(LoginMember loginMember, Long todoId) {
+        var todo = archivedTodoRepository.findById(todoId)
+                .orElseThrow(() -> new TodoNotFoundException("해당 Todo가 존재하지 않습니다."));
+        todo.validateWriter(loginMember.id());
+
+        return TodoWithTasksResponse.from(todo, archivedTaskRepository.findAllByTodoIdOrderByIdAsc(todoId));
+    }
+
+    private List<TodoResponse> loadTodos(LoginMember loginMember, Optional<Status> status) {
+        if (status.isEmpty()) {
+            return toResponse(getTodos(loginMember));
+        }
+
+        var todosByStatus = getTodosByStatus(loginMember, status.get());
+        return toResponse(todosByStatus);
+    }
+
+    private TodoPageResponse loadTodoPage(LoginMember loginMember, Optional<Status> status, String cursor, int pageSize) {
+        var todos = getTodoPage(loginMember, status, TodoCursor.decode(cursor), PageRequest.ofSize(pageSize + 1));
+
+        return toPage(todos, pageSize, TodoCursor::from, TodoResponse::from);
+    }
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 목록으로 페이지를 만듭니다.
+     * 더 조회된 Todo가 있으면 페이지의 마지막 Todo 위치를 다음 페이지 커서로 사용합니다.
+     *
+     * @param todos 페이지 크기 + 1개까지 조회한 목록
+     */
+    private <T> TodoPageResponse toPage(
+            List<T> todos,
+            int pageSize,
+            Function<T, TodoCursor> toCursor,
+            Function<T, TodoResponse> toResponse
+    ) {
+        if (todos.size() <= pageSize) {
+            return new TodoPageResponse(todos.stream().map(toResponse).toList(), null);
+        }
 
-        return TodoWithTasksResponse.from(todo, tasks);
+        var page = todos.subList(0, pageSize);
+        var nextCursor = toCursor.apply(page.get(pageSize - 1)).encode();
+        return new TodoPageResponse(page.stream().map(toResponse).toList(), nextCursor);
+    }
+
+    private TodoWithTasksResponse loadTodoWithTasks(LoginMember loginMember, Long todoId) {
+        var rows = getTodoWithTaskRows(todoId);
+        validateWriter(loginMember, rows.get(0));
+
+        return TodoWithTasksResponse.from(rows);
     }
 
     private List<Todo> getTodos(LoginMember loginMember) {
         return todoRepository.findAllByWriterId(loginMember.id());
     }
 
-    private List<Todo> filterByStatus(List<Todo> todos, Status status) {
-        return todos.stream()
-                .filter(todo -> todo.getStatus().equals(status))
-                .toList();
+    private List<Todo> getTodosByStatus(LoginMember loginMember, Status status) {
+        return todoRepository.findAllByWriterIdAndStatus(loginMember.id(), status);
+    }
+
+    private int toPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private List<Todo> getTodoPage(LoginMember loginMember, Optional<Status> status, TodoCursor cursor, Pageable pageable) {
+        var memberId = loginMember.id();
+
+        if (cursor == null && status.isEmpty()) {
+            return todoRepository.findAllByWriterIdOrderByDeadlineAscIdAsc(memberId, pageable);
+        }
+
+        if (cursor == null) {
+            return todoRepository.findAllByWriterIdAndStatusOrderByDeadlineAscIdAsc(memberId, status.get(), pageable);
+        }
+
+        if (status.isEmpty()) {
+            return todoRepository.findAllByWriterIdAfter(memberId, cursor.deadline(), cursor.id(), pageable);
+        }
+
+        return todoRepository.findAllByWriterIdAndStatusAfter(memberId, status.get(), cursor.deadline(), cursor.id(), pageable);
+    }
+
+    private List<Todo> getOverdueTodoPage(LoginMember loginMember, TodoCursor cursor, Pageable pageable) {
+        if (cursor == null) {
+            return todoRepository.findOverdueByWriterId(loginMember.id(), pageable);
+        }
+
+        return todoRepository.findOverdueByWriterIdAfter(loginMember.id(), cursor.deadline(), cursor.id(), pageable);
+    }
+
+    private List<ArchivedTodo> getArchivedTodoPage(LoginMember loginMember, TodoCursor cursor, Pageable pageable) {
+        if (cursor == null) {
+            return archivedTodoRepository.findAllByWriterIdOrderByDeadlineAscIdAsc(loginMember.id(), pageable);
+        }
+
+        return archivedTodoRepository.findAllByWriterIdAfter(loginMember.id(), cursor.deadline(), cursor.id(), pageable);
     }
 
     private List<TodoResponse> toResponse(List<Todo> todos) {
@@ -75,18 +220,24 @@ public class TodoReadService {
                 .toList();
     }
 
-    private Todo getTodoWithValidation(LoginMember loginMember, long todoId) {
-        var todo = getTodo(todoId);
-        todo.validateWriter(loginMember.id());
-        return todo;
+    private List<TodoTaskRow> getTodoWithTaskRows(long todoId) {
+        var rows = todoRepository.findTodoWithTasksById(todoId);
+        if (rows.isEmpty()) {
+            throw new TodoNotFoundException("해당 Todo가 존재하지 않습니다.");
+        }
+        return rows;
     }
 
-    private Todo getTodo(long todoId) {
-        return todoRepository.findById(todoId)
-                .orElseThrow(() -> new TodoNotFoundException("해당 Todo가 존재하지 않습니다."));
+    private void validateWriter(LoginMember loginMember, TodoTaskRow row) {
+        if (!row.writerId().equals(loginMember.id())) {
+            throw new MemberException("작성자 정보가 일치하지 않습니다.");
+        }
     }
 
-    private List<Task> getTasks(Todo todo) {
-        return taskRepository.findAllByTodoId(todo.getId());
+    private record TodoListKey(
+            Status status,
+            String cursor,
+            int pageSize
+    ) {
     }
 }
@@ -0,0 +1,20 @@
+package project.todo.service.todo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 전송 스레드와 heartbeat 스케줄러는 빈으로 등록하지 않습니다.
+ * Executor 빈이 등록되면 Spring Boot의 기본 실행기와 스케줄러가 생성되지 않기 때문입니다.
+ */
+@EnableConfigurationProperties(TodoStreamProperties.class)
+@Configuration
+public class TodoStreamConfig {
+
+    @Bean
+    public TodoEventStream todoEventStream(TodoStreamProperties properties, MeterRegistry meterRegistry) {
+        return new TodoEventStream(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package project.todo.service.todo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Todo 변경 스트림 설정
+ *
+ * @param bufferSize 구독자별로 전송을 기다릴 수 있는 최대 이벤트 수
+ * @param maxSubscriptionsPerMember 회원별 최대 동시 구독 수, 초과하면 가장 오래된 구독을 종료합니다.
+ * @param heartbeatInterval 연결 유지를 위한 heartbeat 전송 주기
+ * @param timeout 구독 유지 시간, 지나면 연결을 종료하며 클라이언트는 다시 구독해야 합니다.
+ * @param senderThreads 이벤트를 전송하는 스레드 수
+ * @param sendTimeout 이벤트 하나를 전송하는 최대 시간, 넘기면 구독을 종료합니다. 이 주기마다 확인하므로 최대 두 배까지 걸릴 수 있습니다.
+ */
+@ConfigurationProperties(prefix = "todo.stream")
+public record TodoStreamProperties(
+        @DefaultValue("32") int bufferSize,
+        @DefaultValue("5") int maxSubscriptionsPerMember,
+        @DefaultValue("20s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("4") int senderThreads,
+        @DefaultValue("10s") Duration sendTimeout
+) {
+}
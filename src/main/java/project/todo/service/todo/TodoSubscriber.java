@@ -0,0 +1,153 @@
+package project.todo.service.todo;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import project.todo.service.todo.dto.TodoChangeResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Todo 변경 스트림의 구독자
+ * <p>
+ * 이벤트는 크기가 제한된 버퍼에 쌓인 뒤 전송 스레드에서 순서대로 전송되며, 한 구독자의 전송은 한 번에 하나의 스레드에서만 실행됩니다.
+ * 버퍼가 가득 차면 쌓인 이벤트를 모두 버리고 {@code resync} 이벤트를 보내 클라이언트가 목록을 다시 조회하도록 합니다.
+ * <p>
+ * 느린 클라이언트에게 전송하는 동안 전송 스레드가 멈추므로, 제한 시간을 넘긴 전송은 {@link #closeIfStalled}로 구독을 종료합니다.
+ * 멈춘 전송 스레드는 전송이 끝난 후에 돌아오므로, 그동안 호출한 쪽에서 전송 스레드를 보충합니다.
+ */
+class TodoSubscriber {
+    static final String CHANGE_EVENT = "todo";
+    static final String RESYNC_EVENT = "resync";
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long STALLED = Long.MIN_VALUE + 1;
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<TodoChangeResponse> events;
+    private final Executor sender;
+    private final Runnable stalledWriteFinished;
+    private final AtomicLong writeStartedAt = new AtomicLong(IDLE);
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile boolean closed;
+
+    /**
+     * @param stalledWriteFinished 제한 시간을 넘긴 전송이 끝나 전송 스레드가 돌아왔을 때 실행할 작업
+     */
+    TodoSubscriber(SseEmitter emitter, int bufferSize, Executor sender, Runnable stalledWriteFinished) {
+        this.emitter = emitter;
+        this.events = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+        this.stalledWriteFinished = stalledWriteFinished;
+    }
+
+    /**
+     * @return 버퍼가 가득 차서 이벤트를 버렸는지 여부
+     */
+    boolean offer(TodoChangeResponse event) {
+        var dropped = false;
+        if (!events.offer(event)) {
+            events.clear();
+            overflowed.set(true);
+            dropped = true;
+        }
+
+        scheduleSend();
+        return dropped;
+    }
+
+    void heartbeat() {
+        heartbeatPending.set(true);
+        scheduleSend();
+    }
+
+    void complete() {
+        closed = true;
+        emitter.complete();
+    }
+
+    /**
+     * 진행 중인 전송이 제한 시간을 넘겼다면 더 이상 전송하지 않도록 구독을 종료합니다.
+     * 전송 중인 스레드가 응답 객체의 잠금을 잡고 있으므로 연결은 전송이 끝난 후 전송 스레드에서 종료합니다.
+     *
+     * @param now {@link System#nanoTime()}으로 측정한 현재 시각
+     * @return 구독을 종료했는지 여부, 종료했다면 전송이 끝날 때 {@code stalledWriteFinished}를 한 번 실행합니다.
+     */
+    boolean closeIfStalled(long now, Duration timeout) {
+        var startedAt = writeStartedAt.get();
+        if (startedAt == IDLE || startedAt == STALLED || now - startedAt < timeout.toNanos()) {
+            return false;
+        }
+        if (!writeStartedAt.compareAndSet(startedAt, STALLED)) {
+            return false;
+        }
+
+        closed = true;
+        return true;
+    }
+
+    private void scheduleSend() {
+        if (closed || !sending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            sender.execute(this::send);
+        } catch (RejectedExecutionException e) {
+            sending.set(false);
+        }
+    }
+
+    private void send() {
+        try {
+            if (overflowed.getAndSet(false)) {
+                write(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            }
+
+            TodoChangeResponse event;
+            while ((event = events.poll()) != null) {
+                write(SseEmitter.event().name(CHANGE_EVENT).data(event));
+            }
+
+            if (heartbeatPending.getAndSet(false)) {
+                write(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            closed = true;
+            emitter.completeWithError(e);
+        } finally {
+            sending.set(false);
+        }
+
+        if (hasPending()) {
+            scheduleSend();
+        }
+    }
+
+    private void write(SseEmitter.SseEventBuilder event) throws IOException {
+        writeStartedAt.set(System.nanoTime());
+        boolean stalled;
+        try {
+            emitter.send(event);
+        } finally {
+            stalled = writeStartedAt.getAndSet(IDLE) == STALLED;
+            if (stalled) {
+                stalledWriteFinished.run();
+            }
+        }
+
+        if (stalled) {
+            throw new IOException("전송 시간이 초과되어 구독을 종료했습니다.");
+        }
+    }
+
+    private boolean hasPending() {
+        return !events.isEmpty() || overflowed.get() || heartbeatPending.get();
+    }
+}
@@ -0,0 +1,143 @@
+package project.todo.service.todo;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.todo.model.todo.TodoVersion;
+import project.todo.repository.todo.TodoVersionRepository;
+import project.todo.service.todo.event.TodoChangedEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 Todo 버전으로 조회 응답의 ETag를 만듭니다.
+ * <p>
+ * 버전은 {@link TodoVersion}으로 DB에 보관하며 변경 트랜잭션이 커밋되기 직전에 함께 증가하므로,
+ * 로드 밸런서 뒤의 모든 서버가 같은 ETag를 사용합니다.
+ * <p>
+ * 조회한 버전은 서버에 보관하여 요청마다 DB를 조회하지 않습니다. 이 서버에서 커밋된 변경은 커밋된 후 바로 반영되며,
+ * 다른 서버에서 커밋된 변경은 {@link TodoReadCacheProperties#versionCheckInterval()}마다 다시 조회하여 반영합니다.
+ * <p>
+ * Todo 상세 조회는 이 서버가 같은 회원에게 같은 ETag로 200 응답한 Todo만 변경되지 않은 것으로 판단합니다.
+ * 존재하지 않거나 다른 회원의 Todo는 항상 조회를 거쳐 오류로 응답합니다.
+ */
+@Component
+public class TodoVersions {
+    private static final long MAXIMUM_SERVED_TODOS = 100_000;
+
+    private final TodoVersionRepository todoVersionRepository;
+    private final TransactionTemplate newTransaction;
+    private final Cache<ServedTodo, String> servedTodos = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SERVED_TODOS)
+            .build();
+    private final Cache<Long, Long> versions;
+    private final AtomicLong commits = new AtomicLong();
+
+    public TodoVersions(
+            TodoVersionRepository todoVersionRepository,
+            PlatformTransactionManager transactionManager,
+            TodoReadCacheProperties properties
+    ) {
+        this.todoVersionRepository = todoVersionRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(properties.maximumMembers())
+                .expireAfterWrite(properties.versionCheckInterval())
+                .build();
+    }
+
+    /**
+     * @return 회원의 Todo 목록을 나타내는 strong ETag
+     */
+    public String eTag(Long memberId) {
+        return "\"" + toString(version(memberId)) + "\"";
+    }
+
+    /**
+     * @return 회원의 Todo 상세 정보를 나타내는 strong ETag
+     */
+    public String eTag(Long memberId, Long todoId) {
+        return "\"" + toString(version(memberId)) + "-" + toString(todoId) + "\"";
+    }
+
+    /**
+     * @return 이 서버가 회원에게 해당 ETag로 Todo를 응답한 적이 있는지 여부
+     */
+    public boolean isServed(Long memberId, Long todoId, String eTag) {
+        return eTag.equals(servedTodos.getIfPresent(new ServedTodo(memberId, todoId)));
+    }
+
+    /**
+     * 회원에게 Todo를 200으로 응답했음을 기록합니다.
+     */
+    public void served(Long memberId, Long todoId, String eTag) {
+        servedTodos.put(new ServedTodo(memberId, todoId), eTag);
+    }
+
+    /**
+     * 변경 트랜잭션 안에서 회원의 버전을 증가시키므로, 커밋된 변경과 버전이 항상 함께 반영됩니다.
+     * 회원의 버전이 아직 없다면 별도의 트랜잭션으로 먼저 만든 후 증가시킵니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void changed(TodoChangedEvent event) {
+        if (todoVersionRepository.increase(event.memberId()) == 0) {
+            create(event.memberId());
+            todoVersionRepository.increase(event.memberId());
+        }
+    }
+
+    /**
+     * 처음 변경하는 회원의 버전을 변경 트랜잭션과 함께 만들면, 동시에 처음 변경한 트랜잭션 중 하나가 커밋할 때 실패합니다.
+     * 버전만 먼저 커밋하고, 다른 트랜잭션이 이미 만든 경우는 무시합니다.
+     * 회원의 첫 변경에서만 커넥션을 하나 더 사용합니다.
+     */
+    private void create(Long memberId) {
+        try {
+            newTransaction.executeWithoutResult(status -> todoVersionRepository.create(memberId));
+        } catch (DataIntegrityViolationException ignored) {
+        }
+    }
+
+    /**
+     * 이 서버에서 변경이 커밋되면 보관한 버전을 삭제하여 다음 조회에서 DB의 버전을 사용합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void committed(TodoChangedEvent event) {
+        commits.incrementAndGet();
+        versions.invalidate(event.memberId());
+    }
+
+    /**
+     * 보관한 버전이 없을 때만 DB에서 조회하며, 조회 중에 이 서버에서 변경이 커밋되었다면 조회한 버전을 보관하지 않습니다.
+     *
+     * @return 회원의 현재 Todo 버전, 변경된 적이 없으면 0
+     */
+    public long version(Long memberId) {
+        var cached = versions.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        var commit = commits.get();
+        var version = todoVersionRepository.findVersionByMemberId(memberId).orElse(0L);
+        versions.put(memberId, version);
+        if (commits.get() != commit) {
+            versions.asMap().remove(memberId, version);
+        }
+        return version;
+    }
+
+    private static String toString(long value) {
+        return Long.toString(value, Character.MAX_RADIX);
+    }
+
+    private record ServedTodo(Long memberId, Long todoId) {
+    }
+}
@@ -1,6 +1,7 @@
 package project.todo.service.todo;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import project.todo.exception.todo.TodoNotFoundException;
@@ -11,9 +12,17 @@ import project.todo.repository.todo.task.TaskRepository;
 import project.todo.service.security.dto.LoginMember;
 import project.todo.service.todo.dto.TodoCreateRequest;
 import project.todo.service.todo.dto.TodoUpdateRequest;
+import project.todo.service.todo.event.TodoChangeType;
+import project.todo.service.todo.event.TodoChangedEvent;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
 
 /**
  * Todo 쓰기 작업 요청을 처리하는 서비스 클래스
+ * <p>
+ * 변경이 발생하면 {@link TodoChangedEvent}를 발행합니다.
+ * 요청 시각은 {@link Clock}으로 요청마다 한 번만 조회하여 도메인 검증에 사용합니다.
  */
 @RequiredArgsConstructor
 @Transactional
@@ -21,6 +30,8 @@ import project.todo.service.todo.dto.TodoUpdateRequest;
 public class TodoWriteService {
     private final TodoRepository todoRepository;
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     /**
      * 새로운 Todo를 생성합니다.
@@ -28,13 +39,15 @@ public class TodoWriteService {
      * @param request Todo 생성 요청 객체
      */
     public void create(LoginMember loginMember, TodoCreateRequest request) {
-        var todo = new Todo(
+        var todo = Todo.dueOn(
                 loginMember.id(),
                 request.title(),
-                request.deadLine()
+                request.deadLine(),
+                now()
         );
 
         todoRepository.save(todo);
+        publishChanged(loginMember, todo.getId(), TodoChangeType.TODO_CREATED);
     }
 
     /**
@@ -46,7 +59,8 @@ public class TodoWriteService {
     public void update(LoginMember loginMember, Long todoId, TodoUpdateRequest request) {
         var todo = getTodoWithValidation(loginMember, todoId);
 
-        todo.update(request.title(), request.deadline());
+        todo.update(request.title(), request.deadline(), now());
+        publishChanged(loginMember, todoId, TodoChangeType.TODO_UPDATED);
     }
 
     /**
@@ -66,6 +80,8 @@ public class TodoWriteService {
         if (status == Status.INCOMPLETE) {
             incomplete(loginMember, todoId);
         }
+
+        publishChanged(loginMember, todoId, TodoChangeType.TODO_STATUS_CHANGED);
     }
 
     /**
@@ -77,9 +93,9 @@ public class TodoWriteService {
         var todo = getTodoWithValidation(loginMember, todoId);
 
         deleteTodoAndTasks(todo);
+        publishChanged(loginMember, todoId, TodoChangeType.TODO_DELETED);
     }
 
-
     private Todo getTodoWithValidation(LoginMember loginMember, long todoId) {
         var todo = getTodo(todoId);
         todo.validateWriter(loginMember.id());
@@ -94,21 +110,20 @@ public class TodoWriteService {
     private void complete(LoginMember loginMember, Long todoId) {
         var todo = getTodoWithValidation(loginMember, todoId);
 
-        if (isAllTasksCompleted(todo)) {
-            todo.complete();
+        if (todo.isAllTasksCompleted()) {
+            todo.complete(now());
         }
     }
 
     private void incomplete(LoginMember loginMember, Long todoId) {
         var todo = getTodoWithValidation(loginMember, todoId);
 
-        todo.incomplete();
-    }
-
-    private boolean isAllTasksCompleted(Todo todo) {
-        return !taskRepository.existsByTodoAndStatus(todo, Status.INCOMPLETE);
+        todo.incomplete(now());
     }
 
+    /**
+     * Task 개수와 관계없이 Task와 Todo를 각각 한 번의 DELETE 문으로 삭제합니다.
+     */
     private void deleteTodoAndTasks(Todo todo) {
         deleteTasksFromTodo(todo);
         deleteTodo(todo);
@@ -119,6 +134,14 @@ public class TodoWriteService {
     }
 
     private void deleteTodo(Todo todo) {
-        todoRepository.delete(todo);
+        todoRepository.deleteByIdInBulk(todo.getId());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private void publishChanged(LoginMember loginMember, Long todoId, TodoChangeType type) {
+        eventPublisher.publishEvent(new TodoChangedEvent(loginMember.id(), todoId, type));
     }
 }
@@ -0,0 +1,17 @@
+package project.todo.service.todo.dto;
+
+import project.todo.service.todo.event.TodoChangeType;
+import project.todo.service.todo.event.TodoChangedEvent;
+
+public record TodoChangeResponse(
+        Long todoId,
+        TodoChangeType type
+) {
+
+    public static TodoChangeResponse from(TodoChangedEvent event) {
+        return new TodoChangeResponse(
+                event.todoId(),
+                event.type()
+        );
+    }
+}
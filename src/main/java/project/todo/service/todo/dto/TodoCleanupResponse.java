@@ -0,0 +1,9 @@
+package project.todo.service.todo.dto;
+
+/**
+ * @param count 삭제 또는 보관된 Todo 개수
+ */
+public record TodoCleanupResponse(
+        int count
+) {
+}
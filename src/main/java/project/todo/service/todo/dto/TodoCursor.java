@@ -0,0 +1,63 @@
+package project.todo.service.todo.dto;
+
+import project.todo.model.todo.Todo;
+import project.todo.model.todo.archive.ArchivedTodo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Todo 목록 조회 시 다음 페이지의 시작 위치를 나타내는 커서
+ * <p>
+ * (마감일, ID) 순으로 정렬된 목록에서 마지막으로 조회된 Todo의 위치를 담습니다.
+ */
+public record TodoCursor(
+        LocalDateTime deadline,
+        Long id
+) {
+    private static final String DELIMITER = ",";
+
+    public static TodoCursor from(Todo todo) {
+        return new TodoCursor(
+                todo.getDeadline(),
+                todo.getId()
+        );
+    }
+
+    public static TodoCursor from(ArchivedTodo todo) {
+        return new TodoCursor(
+                todo.getDeadline(),
+                todo.getId()
+        );
+    }
+
+    /**
+     * @param cursor 클라이언트가 전달한 커서 문자열
+     * @return 디코딩된 커서, 커서가 없으면 {@code null}
+     */
+    public static TodoCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var values = decoded.split(DELIMITER);
+            return new TodoCursor(
+                    LocalDateTime.parse(values[0]),
+                    Long.parseLong(values[1])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서 값입니다.");
+        }
+    }
+
+    public String encode() {
+        var value = deadline + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
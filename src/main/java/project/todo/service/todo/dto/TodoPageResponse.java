@@ -0,0 +1,9 @@
+package project.todo.service.todo.dto;
+
+import java.util.List;
+
+public record TodoPageResponse(
+        List<TodoResponse> todos,
+        String nextCursor
+) {
+}
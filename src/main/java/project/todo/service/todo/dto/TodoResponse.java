@@ -2,6 +2,7 @@ package project.todo.service.todo.dto;
 
 import project.todo.model.todo.Todo;
 import project.todo.model.todo.Status;
+import project.todo.model.todo.archive.ArchivedTodo;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,4 +24,14 @@ public record TodoResponse(
                 todo.getStatus()
         );
     }
+
+    public static TodoResponse from(ArchivedTodo todo) {
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getDeadline().toLocalDate(),
+                todo.getCreatedAt(),
+                todo.getStatus()
+        );
+    }
 }
@@ -2,7 +2,10 @@ package project.todo.service.todo.dto;
 
 import project.todo.model.todo.Todo;
 import project.todo.model.todo.Status;
+import project.todo.model.todo.archive.ArchivedTask;
+import project.todo.model.todo.archive.ArchivedTodo;
 import project.todo.model.todo.task.Task;
+import project.todo.repository.todo.dto.TodoTaskRow;
 import project.todo.service.todo.task.dto.TaskDetailResponse;
 
 import java.time.LocalDate;
@@ -32,4 +35,39 @@ public record TodoWithTasksResponse(
                 taskResponses
         );
     }
+
+    /**
+     * @param rows 하나의 Todo에 대해 조인 조회된 행 목록 (최소 한 행)
+     */
+    public static TodoWithTasksResponse from(List<TodoTaskRow> rows) {
+        var todo = rows.get(0);
+        var taskResponses = rows.stream()
+                .filter(TodoTaskRow::hasTask)
+                .map(TaskDetailResponse::from)
+                .toList();
+
+        return new TodoWithTasksResponse(
+                todo.todoId(),
+                todo.title(),
+                todo.deadline().toLocalDate(),
+                todo.createdAt(),
+                todo.status(),
+                taskResponses
+        );
+    }
+
+    public static TodoWithTasksResponse from(ArchivedTodo todo, List<ArchivedTask> tasks) {
+        var taskResponses = tasks.stream()
+                .map(TaskDetailResponse::from)
+                .toList();
+
+        return new TodoWithTasksResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getDeadline().toLocalDate(),
+                todo.getCreatedAt(),
+                todo.getStatus(),
+                taskResponses
+        );
+    }
 }
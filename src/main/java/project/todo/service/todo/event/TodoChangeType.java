@@ -0,0 +1,14 @@
+package project.todo.service.todo.event;
+
+public enum TodoChangeType {
+    TODO_CREATED,
+    TODO_UPDATED,
+    TODO_STATUS_CHANGED,
+    TODO_DELETED,
+    TODOS_DELETED,
+    TODOS_ARCHIVED,
+    TASK_ADDED,
+    TASK_UPDATED,
+    TASK_STATUS_CHANGED,
+    TASK_DELETED
+}
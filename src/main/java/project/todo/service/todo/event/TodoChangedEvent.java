@@ -0,0 +1,15 @@
+package project.todo.service.todo.event;
+
+/**
+ * Todo 또는 Todo에 포함된 Task가 변경되었음을 알리는 이벤트
+ *
+ * @param memberId Todo 작성자의 ID
+ * @param todoId 변경된 Todo의 ID, 여러 Todo가 한 번에 변경된 경우 {@code null}
+ * @param type 변경 종류
+ */
+public record TodoChangedEvent(
+        Long memberId,
+        Long todoId,
+        TodoChangeType type
+) {
+}
@@ -1,6 +1,7 @@
 package project.todo.service.todo.task;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import project.todo.exception.todo.TodoNotFoundException;
@@ -11,11 +12,21 @@ import project.todo.model.todo.task.Task;
 import project.todo.repository.todo.TodoRepository;
 import project.todo.repository.todo.task.TaskRepository;
 import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.event.TodoChangeType;
+import project.todo.service.todo.event.TodoChangedEvent;
 import project.todo.service.todo.task.dto.TaskAddRequest;
 import project.todo.service.todo.task.dto.TaskUpdateRequest;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Task 쓰기 작업 요청을 처리하는 서비스 클래스
+ * <p>
+ * 변경이 발생하면 Task가 속한 Todo에 대한 {@link TodoChangedEvent}를 발행합니다.
+ * 요청 시각은 {@link Clock}으로 요청마다 한 번만 조회하여 Task와 Todo의 마감일 검증에 함께 사용합니다.
  */
 @RequiredArgsConstructor
 @Transactional
@@ -23,6 +34,8 @@ import project.todo.service.todo.task.dto.TaskUpdateRequest;
 public class TaskWriteService {
     private final TaskRepository taskRepository;
     private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     /**
      * 특정 Todo에 새로운 Task를 추가합니다.
@@ -32,9 +45,30 @@ public class TaskWriteService {
      */
     public void add(LoginMember loginMember, Long todoId, TaskAddRequest request) {
         var todo = getTodoWithValidation(loginMember, todoId);
-        var task = new Task(todo, request.content());
+        var task = new Task(todo, request.content(), now());
 
         taskRepository.save(task);
+        publishChanged(loginMember, todoId, TodoChangeType.TASK_ADDED);
+    }
+
+    /**
+     * 특정 Todo에 여러 Task를 한 번에 추가합니다.<p>
+     *
+     * - Todo 조회와 작성자, 마감일 검증은 한 번만 수행하며, Task는 일괄 저장됩니다.<p>
+     *
+     * @param todoId Task를 추가할 Todo의 ID
+     * @param requests Task 추가 요청 객체 목록
+     */
+    public void addAll(LoginMember loginMember, Long todoId, List<TaskAddRequest> requests) {
+        validateNotEmpty(requests);
+        var todo = getTodoWithValidation(loginMember, todoId);
+        var contents = requests.stream()
+                .map(TaskAddRequest::content)
+                .toList();
+        var tasks = Task.createAll(todo, contents, now());
+
+        taskRepository.saveAll(tasks);
+        publishChanged(loginMember, todoId, TodoChangeType.TASK_ADDED);
     }
 
     /**
@@ -47,7 +81,8 @@ public class TaskWriteService {
     public void update(LoginMember loginMember, Long todoId, Long taskId, TaskUpdateRequest request) {
         var task = getTaskWithValidation(loginMember, todoId, taskId);
 
-        task.update(request.content());
+        task.update(request.content(), now());
+        publishChanged(loginMember, todoId, TodoChangeType.TASK_UPDATED);
     }
 
     /**
@@ -61,13 +96,51 @@ public class TaskWriteService {
      * @param status Task의 상태 (완료 또는 미완료)
      */
     public void updateStatus(LoginMember loginMember, Long todoId, Long taskId, Status status) {
+        validateStatus(status);
+
         if (status == Status.COMPLETE) {
             complete(loginMember, todoId, taskId);
+        } else {
+            incomplete(loginMember, todoId, taskId);
         }
 
-        if (status == Status.INCOMPLETE) {
-            incomplete(loginMember, todoId, taskId);
+        publishChanged(loginMember, todoId, TodoChangeType.TASK_STATUS_CHANGED);
+    }
+
+    /**
+     * 요청 상태에 따라 여러 Task의 완료/미완료 처리를 한 번에 진행합니다.<p>
+     *
+     * - Todo의 마감일은 한 번만 확인하며, 이미 요청한 상태인 Task는 변경하지 않습니다.<p>
+     * - Todo의 자동 완료/미완료 처리는 모든 Task의 상태를 변경한 뒤 한 번만 판단합니다.<p>
+     * - 상태가 변경된 Task가 없으면 변경 이벤트를 발행하지 않습니다.<p>
+     *
+     * @param todoId 해당 Task들이 속한 Todo의 ID
+     * @param taskIds 완료/미완료 처리를 진행할 Task의 ID 목록
+     * @param status Task의 상태 (완료 또는 미완료)
+     */
+    public void updateStatusAll(LoginMember loginMember, Long todoId, List<Long> taskIds, Status status) {
+        validateNotEmpty(taskIds);
+        validateStatus(status);
+        var todo = getTodoWithValidation(loginMember, todoId);
+        var tasks = getTasksInTodo(todo, taskIds);
+        var now = now();
+        todo.validateForUpdateStatus(status, now);
+
+        var changed = false;
+        for (var task : tasks) {
+            changed |= task.changeStatus(status);
         }
+        if (!changed) {
+            return;
+        }
+
+        if (status == Status.COMPLETE) {
+            completeTodoIfAllTasksCompleted(todo, now);
+        } else {
+            incompleteTodoIfCompleted(todo, now);
+        }
+
+        publishChanged(loginMember, todoId, TodoChangeType.TASK_STATUS_CHANGED);
     }
 
     /**
@@ -80,9 +153,44 @@ public class TaskWriteService {
         var task = getTaskWithValidation(loginMember, todoId, taskId);
         taskRepository.delete(task);
 
-        var todo = getTodo(todoId);
-        if (isLastTask(todo) && isCompleted(todo)) {
-            todo.incomplete();
+        var todo = task.getTodo();
+        todo.decreaseTaskCount(task.getStatus());
+        if (!todo.hasTasks() && isCompleted(todo)) {
+            todo.incomplete(now());
+        }
+
+        publishChanged(loginMember, todoId, TodoChangeType.TASK_DELETED);
+    }
+
+    /**
+     * 특정 Todo에 포함된 여러 Task를 한 번에 삭제합니다.
+     *
+     * @param todoId 해당 Task들이 속한 Todo의 ID
+     * @param taskIds 삭제할 Task의 ID 목록
+     */
+    public void deleteAll(LoginMember loginMember, Long todoId, List<Long> taskIds) {
+        validateNotEmpty(taskIds);
+        var todo = getTodoWithValidation(loginMember, todoId);
+        var tasks = getTasksInTodo(todo, taskIds);
+        taskRepository.deleteAll(tasks);
+
+        tasks.forEach(task -> todo.decreaseTaskCount(task.getStatus()));
+        if (!todo.hasTasks() && isCompleted(todo)) {
+            todo.incomplete(now());
+        }
+
+        publishChanged(loginMember, todoId, TodoChangeType.TASK_DELETED);
+    }
+
+    private void validateNotEmpty(List<?> values) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("처리할 Task가 존재하지 않습니다.");
+        }
+    }
+
+    private void validateStatus(Status status) {
+        if (status == null) {
+            throw new IllegalArgumentException("변경할 상태를 입력해주세요.");
         }
     }
 
@@ -105,39 +213,57 @@ public class TaskWriteService {
     }
 
     private Task getTask(long taskId) {
-        return taskRepository.findById(taskId)
+        return taskRepository.findWithTodoById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("해당 Task를 찾을 수 없습니다."));
     }
 
+    private List<Task> getTasksInTodo(Todo todo, List<Long> taskIds) {
+        var distinctTaskIds = Set.copyOf(taskIds);
+        var tasks = taskRepository.findAllByTodoIdAndIdIn(todo.getId(), distinctTaskIds);
+
+        if (tasks.size() != distinctTaskIds.size()) {
+            throw new TaskNotFoundException("해당 Todo에 포함된 Task를 찾을 수 없습니다.");
+        }
+        return tasks;
+    }
+
     private void complete(LoginMember loginMember, Long todoId, Long taskId) {
         var task = getTaskWithValidation(loginMember, todoId, taskId);
-        task.complete();
+        var now = now();
+        task.complete(now);
 
-        var todo = getTodoWithValidation(loginMember, todoId);
-        if (isAllTasksCompleted(todo)) {
-            todo.complete();
-        }
+        completeTodoIfAllTasksCompleted(task.getTodo(), now);
     }
 
     private void incomplete(LoginMember loginMember, Long todoId, Long taskId) {
         var task = getTaskWithValidation(loginMember, todoId, taskId);
-        task.incomplete();
+        var now = now();
+        task.incomplete(now);
 
-        var todo = getTodoWithValidation(loginMember, todoId);
-        if (isCompleted(todo)) {
-            todo.incomplete();
+        incompleteTodoIfCompleted(task.getTodo(), now);
+    }
+
+    private void completeTodoIfAllTasksCompleted(Todo todo, LocalDateTime now) {
+        if (todo.isAllTasksCompleted() && !isCompleted(todo)) {
+            todo.complete(now);
         }
     }
 
-    private boolean isAllTasksCompleted(Todo todo) {
-        return !taskRepository.existsByTodoAndStatus(todo, Status.INCOMPLETE);
+    private void incompleteTodoIfCompleted(Todo todo, LocalDateTime now) {
+        if (isCompleted(todo)) {
+            todo.incomplete(now);
+        }
     }
 
     private boolean isCompleted(Todo todo) {
         return todo.getStatus().isCompleted();
     }
 
-    private boolean isLastTask(Todo todo) {
-        return !taskRepository.existsByTodo(todo);
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private void publishChanged(LoginMember loginMember, Long todoId, TodoChangeType type) {
+        eventPublisher.publishEvent(new TodoChangedEvent(loginMember.id(), todoId, type));
     }
 }
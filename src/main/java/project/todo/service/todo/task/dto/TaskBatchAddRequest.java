@@ -0,0 +1,8 @@
+package project.todo.service.todo.task.dto;
+
+import java.util.List;
+
+public record TaskBatchAddRequest(
+        List<TaskAddRequest> tasks
+) {
+}
@@ -0,0 +1,11 @@
+package project.todo.service.todo.task.dto;
+
+import project.todo.model.todo.Status;
+
+import java.util.List;
+
+public record TaskBatchStatusRequest(
+        List<Long> taskIds,
+        Status status
+) {
+}
@@ -1,7 +1,9 @@
 package project.todo.service.todo.task.dto;
 
 import project.todo.model.todo.Status;
+import project.todo.model.todo.archive.ArchivedTask;
 import project.todo.model.todo.task.Task;
+import project.todo.repository.todo.dto.TodoTaskRow;
 
 import java.time.LocalDateTime;
 
@@ -20,4 +22,22 @@ public record TaskDetailResponse(
                 task.getStatus()
         );
     }
+
+    public static TaskDetailResponse from(TodoTaskRow row) {
+        return new TaskDetailResponse(
+                row.taskId(),
+                row.taskContent(),
+                row.taskCreatedAt(),
+                row.taskStatus()
+        );
+    }
+
+    public static TaskDetailResponse from(ArchivedTask task) {
+        return new TaskDetailResponse(
+                task.getId(),
+                task.getContent(),
+                task.getCreatedAt(),
+                task.getStatus()
+        );
+    }
 }
@@ -0,0 +1,48 @@
+-- ID는 IdGeneration.ALLOCATION_SIZE(50)개씩 미리 할당받으므로 시퀀스도 50씩 증가합니다.
+CREATE SEQUENCE member_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE todo_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE task_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE member
+(
+    id         BIGINT       NOT NULL,
+    name       VARCHAR(255),
+    login_id   VARCHAR(255),
+    password   VARCHAR(255),
+    email      VARCHAR(255),
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_member PRIMARY KEY (id),
+    CONSTRAINT uk_member_login_id UNIQUE (login_id)
+);
+
+CREATE TABLE todo
+(
+    id                    BIGINT       NOT NULL,
+    writer_id             BIGINT,
+    title                 VARCHAR(255),
+    deadline              TIMESTAMP(6),
+    created_at            TIMESTAMP(6),
+    status                VARCHAR(255) CHECK (status IN ('COMPLETE', 'INCOMPLETE')),
+    task_count            INTEGER      NOT NULL,
+    incomplete_task_count INTEGER      NOT NULL,
+    version               BIGINT,
+    CONSTRAINT pk_todo PRIMARY KEY (id)
+);
+
+-- 회원별 목록 조회: 상태 필터 유무에 따라 (마감일, ID) 순으로 정렬된 인덱스를 사용합니다.
+CREATE INDEX idx_todo_writer_status_deadline ON todo (writer_id, status, deadline, id);
+CREATE INDEX idx_todo_writer_deadline ON todo (writer_id, deadline, id);
+
+CREATE TABLE task
+(
+    id         BIGINT       NOT NULL,
+    todo_id    BIGINT,
+    content    VARCHAR(255),
+    created_at TIMESTAMP(6),
+    status     VARCHAR(255) CHECK (status IN ('COMPLETE', 'INCOMPLETE')),
+    CONSTRAINT pk_task PRIMARY KEY (id),
+    CONSTRAINT fk_task_todo FOREIGN KEY (todo_id) REFERENCES todo (id)
+);
+
+-- Todo별 Task 조회/삭제와 상태별 조회에 사용합니다. (todo_id) 단독 조회도 이 인덱스로 처리됩니다.
+CREATE INDEX idx_task_todo_status ON task (todo_id, status);
@@ -0,0 +1,26 @@
+-- 보관된 Todo와 Task는 원래 ID를 그대로 사용하므로 시퀀스를 사용하지 않습니다.
+CREATE TABLE archived_todo
+(
+    id          BIGINT NOT NULL,
+    writer_id   BIGINT,
+    title       VARCHAR(255),
+    deadline    TIMESTAMP(6),
+    created_at  TIMESTAMP(6),
+    status      VARCHAR(255) CHECK (status IN ('COMPLETE', 'INCOMPLETE')),
+    archived_at TIMESTAMP(6),
+    CONSTRAINT pk_archived_todo PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_archived_todo_writer_deadline ON archived_todo (writer_id, deadline, id);
+
+CREATE TABLE archived_task
+(
+    id         BIGINT NOT NULL,
+    todo_id    BIGINT,
+    content    VARCHAR(255),
+    created_at TIMESTAMP(6),
+    status     VARCHAR(255) CHECK (status IN ('COMPLETE', 'INCOMPLETE')),
+    CONSTRAINT pk_archived_task PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_archived_task_todo ON archived_task (todo_id);
@@ -0,0 +1,2 @@
+-- 회원과 관계없이 마감일이 지난 Todo를 보관할 때 사용합니다.
+CREATE INDEX idx_todo_deadline ON todo (deadline, id);
@@ -0,0 +1,9 @@
+ALTER TABLE todo ADD COLUMN overdue BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- 기존 Todo 중 마감일이 지난 Todo를 기록합니다.
+UPDATE todo SET overdue = TRUE WHERE deadline < LOCALTIMESTAMP;
+
+-- 마감일 확인 작업: 아직 기록되지 않은 Todo를 마감일 순으로 조회합니다.
+CREATE INDEX idx_todo_overdue_deadline ON todo (overdue, deadline, id);
+-- 회원별 마감일이 지난 Todo 목록 조회
+CREATE INDEX idx_todo_writer_overdue_deadline ON todo (writer_id, overdue, deadline, id);
@@ -0,0 +1,12 @@
+-- 회원별 Todo 버전: 여러 서버가 같은 ETag를 사용하도록 DB에 보관합니다.
+CREATE TABLE todo_version
+(
+    member_id BIGINT NOT NULL,
+    version   BIGINT NOT NULL,
+    CONSTRAINT pk_todo_version PRIMARY KEY (member_id)
+);
+
+INSERT INTO todo_version (member_id, version)
+SELECT DISTINCT writer_id, 1
+FROM todo
+WHERE writer_id IS NOT NULL;
@@ -5,10 +5,13 @@ import org.junit.jupiter.api.Test;
 import project.todo.exception.member.LoginFailedException;
 import project.todo.exception.member.NameLengthException;
 
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class MemberTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
 
     @DisplayName("주어진 값으로 새로운 Member 객체가 생성된다.")
     @Test
@@ -19,7 +22,8 @@ class MemberTest {
                     "사용자",
                     "loginId",
                     "password123",
-                    "test@example.com"
+                    "test@example.com",
+                    CREATED_AT
             );
         });
     }
@@ -33,7 +37,8 @@ class MemberTest {
                     "A".repeat(11),
                     "loginId",
                     "password123",
-                    "test@example.com"
+                    "test@example.com",
+                    CREATED_AT
             );
         })
                 .isInstanceOf(NameLengthException.class)
@@ -47,10 +52,11 @@ class MemberTest {
                 "사용자",
                 "loginId",
                 "password123",
-                "test@example.com"
+                "test@example.com",
+                CREATED_AT
         );
 
-        assertThatThrownBy(() -> member.validatePassword("password"))
+        assertThatThrownBy(() -> member.validatePassword(password -> password.equals("password")))
                 .isInstanceOf(LoginFailedException.class)
                 .hasMessage("로그인 정보가 일치하지 않습니다.");
     }
@@ -20,14 +20,17 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class TodoTest {
+    private static final LocalDateTime NOW = LocalDate.of(2025, 1, 1).atTime(LocalTime.MIN);
+
     private Todo todo;
 
     @BeforeEach
     void setUp() {
-        todo = new Todo(
+        todo = Todo.dueOn(
                 1L,
                 "프로젝트",
-                LocalDate.of(2025, 12, 1)
+                LocalDate.of(2025, 12, 1),
+                NOW
         );
     }
 
@@ -36,10 +39,11 @@ class TodoTest {
     void initTodo() {
 
         assertDoesNotThrow(() -> {
-            new Todo(
+            Todo.dueOn(
                     1L,
                     "프로젝트",
-                    LocalDate.of(2025, 12, 1)
+                    LocalDate.of(2025, 12, 1),
+                    NOW
             );
         });
     }
@@ -50,10 +54,11 @@ class TodoTest {
     void initTodoWithEmptyTitle(String input) {
 
         assertThatThrownBy(() -> {
-            new Todo(
+            Todo.dueOn(
                     1L,
                     input,
-                    LocalDate.of(2025, 12, 1)
+                    LocalDate.of(2025, 12, 1),
+                    NOW
             );
         })
                 .isInstanceOf(IllegalArgumentException.class)
@@ -69,7 +74,7 @@ class TodoTest {
                     1L,
                     "프로젝트",
                     null,
-                    LocalDateTime.now()
+                    NOW
             );
         })
                 .isInstanceOf(DeadlineException.class)
@@ -81,10 +86,11 @@ class TodoTest {
     void initTodoWithPastDeadline() {
 
         assertThatThrownBy(() -> {
-            new Todo(
+            Todo.dueOn(
                     1L,
                     "프로젝트",
-                    LocalDate.of(2024, 12, 1)
+                    LocalDate.of(2024, 12, 1),
+                    NOW
             );
         })
                 .isInstanceOf(DeadlineExceededException.class)
@@ -96,7 +102,7 @@ class TodoTest {
     void updateTitle() {
         assertThat(todo.getTitle()).isEqualTo("프로젝트");
 
-        todo.update("최종 프로젝트", null);
+        todo.update("최종 프로젝트", null, NOW);
 
         assertThat(todo.getTitle()).isEqualTo("최종 프로젝트");
     }
@@ -110,7 +116,7 @@ class TodoTest {
 
         var newDeadline = LocalDate.of(2025, 12, 2);
         var afterDeadline = newDeadline.atTime(LocalTime.MAX);
-        todo.update(null, newDeadline);
+        todo.update(null, newDeadline, NOW);
 
         assertThat(todo.getDeadline()).isEqualTo(afterDeadline);
     }
@@ -124,7 +130,7 @@ class TodoTest {
         assertThat(todo.getDeadline()).isEqualTo(beforeDeadline);
 
         var newDeadline = LocalDate.of(2025, 12, 2);
-        todo.update("최종 프로젝트", newDeadline);
+        todo.update("최종 프로젝트", newDeadline, NOW);
 
         assertThat(todo.getTitle()).isEqualTo("최종 프로젝트");
         assertThat(todo.getDeadline()).isEqualTo(newDeadline.atTime(LocalTime.MAX));
@@ -133,10 +139,10 @@ class TodoTest {
     @DisplayName("이미 완료된 Todo 수정 시 예외 발생")
     @Test
     void updateWithAlreadyCompletedTodo() {
-        todo.complete();
+        todo.complete(NOW);
 
         assertThatThrownBy(() -> {
-            todo.update("프로젝트2", LocalDate.of(2025, 1, 1));
+            todo.update("프로젝트2", LocalDate.of(2025, 1, 1), NOW);
         })
                 .isInstanceOf(TodoStateException.class)
                 .hasMessage("이미 완료된 Todo는 수정할 수 없습니다.");
@@ -157,7 +163,7 @@ class TodoTest {
         );
 
         assertThatThrownBy(() -> {
-            newTodo.update("최종 프로젝트", LocalDate.of(2025, 1, 1));
+            newTodo.update("최종 프로젝트", LocalDate.of(2025, 1, 1), NOW);
         })
                 .isInstanceOf(DeadlineExceededException.class)
                 .hasMessage("마감일이 초과되어 수정할 수 없습니다.");
@@ -169,7 +175,7 @@ class TodoTest {
         var beforeDeadline = todo.getDeadline();
         var beforeTitle = todo.getTitle();
 
-        todo.update(null, null);
+        todo.update(null, null, NOW);
 
         assertThat(todo.getTitle()).isEqualTo(beforeTitle);
         assertThat(todo.getDeadline()).isEqualTo(beforeDeadline);
@@ -180,7 +186,7 @@ class TodoTest {
     void completeTodo() {
         assertThat(todo.getStatus().isCompleted()).isFalse();
 
-        todo.complete();
+        todo.complete(NOW);
 
         assertThat(todo.getStatus().isCompleted()).isTrue();
     }
@@ -188,9 +194,9 @@ class TodoTest {
     @DisplayName("완료된 Todo에 완료를 시도하면 예외 발생")
     @Test
     void completeWithAlreadyCompletedTodo() {
-        todo.complete();
+        todo.complete(NOW);
 
-        assertThatThrownBy(() -> todo.complete())
+        assertThatThrownBy(() -> todo.complete(NOW))
                 .isInstanceOf(TodoStateException.class)
                 .hasMessage("이미 완료된 Todo는 완료 처리할 수 없습니다.");
     }
@@ -198,10 +204,10 @@ class TodoTest {
     @DisplayName("Todo 완료 해제 후 완료 해제 상태로 변경된다.")
     @Test
     void incompleteTodo() {
-        todo.complete();
+        todo.complete(NOW);
         assertThat(todo.getStatus().isCompleted()).isTrue();
 
-        todo.incomplete();
+        todo.incomplete(NOW);
 
         assertThat(todo.getStatus().isCompleted()).isFalse();
     }
@@ -210,18 +216,29 @@ class TodoTest {
     @Test
     void incompleteWithIncompletedTodo() {
 
-        assertThatThrownBy(() -> todo.incomplete())
+        assertThatThrownBy(() -> todo.incomplete(NOW))
                 .isInstanceOf(TodoStateException.class)
                 .hasMessage("완료되지 않은 Todo는 해제할 수 없습니다.");
     }
 
+    @DisplayName("요청 시각이 마감일을 지났으면 완료 처리 시 예외 발생")
+    @Test
+    void completeAfterDeadline() {
+        var afterDeadline = todo.getDeadline().plusNanos(1);
+
+        assertThatThrownBy(() -> todo.complete(afterDeadline))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessage("마감일이 초과되어 완료 처리할 수 없습니다.");
+    }
+
     @DisplayName("Todo 작성자가 아니면 예외 발생")
     @Test
     void ownerException() {
-        var todo = new Todo(
+        var todo = Todo.dueOn(
                 1L,
                 "제목",
-                LocalDate.now()
+                LocalDate.now(),
+                NOW
         );
 
         assertThatThrownBy(() -> todo.validateWriter(5L))
@@ -9,30 +9,37 @@ import org.junit.jupiter.params.provider.ValueSource;
 import project.todo.exception.todo.DeadlineExceededException;
 import project.todo.exception.todo.task.TaskNotInTodoException;
 import project.todo.exception.todo.task.TaskStateException;
+import project.todo.model.todo.Status;
 import project.todo.model.todo.Todo;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 public class TaskTest {
+    private static final LocalDateTime NOW = LocalDate.of(2025, 1, 1).atTime(LocalTime.MIN);
+
     private Todo todo;
     private Task task;
 
     @BeforeEach
     void setUp() {
-        todo = new Todo(
+        todo = Todo.dueOn(
                 1L,
                 "todo",
-                LocalDate.of(2025, 12, 1)
+                LocalDate.of(2025, 12, 1),
+                NOW
         );
 
         task = new Task(
                 todo,
-                "task"
+                "task",
+                NOW
         );
     }
 
@@ -40,7 +47,7 @@ public class TaskTest {
     @Test
     void initTask() {
 
-        assertDoesNotThrow(() -> new Task(todo, "task"));
+        assertDoesNotThrow(() -> new Task(todo, "task", NOW));
     }
 
     @ValueSource(strings = {" ", "   "})
@@ -48,7 +55,7 @@ public class TaskTest {
     @ParameterizedTest(name = "Task 생성 시 내용이 공백이면 예외 발생")
     void initTaskWithEmptyContent(String input) {
 
-        assertThatThrownBy(() -> new Task(todo, input))
+        assertThatThrownBy(() -> new Task(todo, input, NOW))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("내용은 공백일 수 없습니다.");
     }
@@ -75,7 +82,7 @@ public class TaskTest {
     void updateTask() {
         assertThat(task.getContent()).isEqualTo("task");
 
-        task.update("new task");
+        task.update("new task", NOW);
 
         assertThat(task.getContent()).isEqualTo("new task");
     }
@@ -85,7 +92,7 @@ public class TaskTest {
     @ParameterizedTest(name = "Task 수정 시 내용이 공백이면 예외 발생")
     void updateTaskWithEmptyContent(String input) {
 
-        assertThatThrownBy(() -> task.update(input))
+        assertThatThrownBy(() -> task.update(input, NOW))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("내용은 공백일 수 없습니다.");
     }
@@ -93,9 +100,9 @@ public class TaskTest {
     @DisplayName("Task 수정 시 완료 상태면 예외 발생")
     @Test
     void updateWithAlreadyCompletedTask() {
-        task.complete();
+        task.complete(NOW);
 
-        assertThatThrownBy(() -> task.update("new task"))
+        assertThatThrownBy(() -> task.update("new task", NOW))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessage("이미 완료된 Task는 수정할 수 없습니다.");
     }
@@ -105,7 +112,7 @@ public class TaskTest {
     void completeTask() {
         assertThat(task.getStatus().isCompleted()).isFalse();
 
-        task.complete();
+        task.complete(NOW);
 
         assertThat(task.getStatus().isCompleted()).isTrue();
     }
@@ -113,9 +120,9 @@ public class TaskTest {
     @DisplayName("완료된 Task에 완료를 시도하면 예외 발생")
     @Test
     void completeWithAlreadyCompletedTask() {
-        task.complete();
+        task.complete(NOW);
 
-        assertThatThrownBy(task::complete)
+        assertThatThrownBy(() -> task.complete(NOW))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessage("이미 완료된 Task는 완료 처리할 수 없습니다.");
     }
@@ -123,10 +130,10 @@ public class TaskTest {
     @DisplayName("Task 완료 해제 후 완료 해제 상태로 변경된다.")
     @Test
     void incompleteTask() {
-        task.complete();
+        task.complete(NOW);
         assertThat(task.getStatus().isCompleted()).isTrue();
 
-        task.incomplete();
+        task.incomplete(NOW);
         assertThat(task.getStatus().isCompleted()).isFalse();
     }
 
@@ -134,11 +141,40 @@ public class TaskTest {
     @Test
     void incompleteWithIncompletedTask() {
 
-        assertThatThrownBy(task::incomplete)
+        assertThatThrownBy(() -> task.incomplete(NOW))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessage("완료되지 않은 Task는 완료 해제할 수 없습니다.");
     }
 
+    @DisplayName("여러 Task를 한 번에 생성하면 Todo의 Task 개수가 함께 증가한다.")
+    @Test
+    void createAll() {
+        var tasks = Task.createAll(todo, List.of("task1", "task2"), NOW);
+
+        assertThat(tasks).extracting(Task::getContent).containsExactly("task1", "task2");
+        assertThat(todo.getTaskCount()).isEqualTo(3);
+        assertThat(todo.getIncompleteTaskCount()).isEqualTo(3);
+    }
+
+    @DisplayName("여러 Task를 한 번에 생성할 때 마감일을 초과한 경우 예외 발생")
+    @Test
+    void createAllWithExceedingDeadline() {
+        var exceedDeadline = todo.getDeadline().plusDays(1);
+
+        assertThatThrownBy(() -> Task.createAll(todo, List.of("task1", "task2"), exceedDeadline))
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    @DisplayName("이미 요청한 상태인 Task는 상태를 변경하지 않는다.")
+    @Test
+    void changeStatus() {
+        assertThat(task.changeStatus(Status.COMPLETE)).isTrue();
+        assertThat(task.changeStatus(Status.COMPLETE)).isFalse();
+
+        assertThat(task.getStatus()).isEqualTo(Status.COMPLETE);
+        assertThat(todo.getIncompleteTaskCount()).isZero();
+    }
+
     @DisplayName("Task가 Todo에 포함되어 있지 않으면 예외 발생")
     @Test
     void notContainsInTodo() {
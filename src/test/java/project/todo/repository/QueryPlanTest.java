@@ -0,0 +1,138 @@
+package project.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import project.todo.model.member.Member;
+import project.todo.model.todo.Status;
+import project.todo.model.todo.Todo;
+import project.todo.model.todo.task.Task;
+import project.todo.repository.member.MemberRepository;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.repository.todo.task.TaskRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository 조회가 인덱스를 사용하는지 H2의 실행 계획(EXPLAIN)으로 검증합니다.
+ * <p>
+ * 실제로 실행된 SQL과 파라미터로 실행 계획을 조회하며, 테이블 전체를 읽는 경우({@code tableScan}) 실패합니다.
+ */
+@Transactional
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query-plan;DB_CLOSE_DELAY=-1")
+class QueryPlanTest {
+
+    @TestConfiguration
+    static class QueryRecorderConfig {
+
+        @Bean
+        static QueryRecorder queryRecorder() {
+            return new QueryRecorder();
+        }
+    }
+
+    @Autowired
+    private QueryRecorder queryRecorder;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final Long WRITER_ID = 0L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Todo todo;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.save(new Member("사용자", "user", "password", "user@test.com", CREATED_AT));
+        todo = todoRepository.save(Todo.dueOn(WRITER_ID, "todo", LocalDate.now().plusDays(1), CREATED_AT));
+        task = taskRepository.save(new Task(todo, "task", CREATED_AT));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("회원 아이디로 조회할 때 아이디 유니크 인덱스를 사용한다.")
+    @Test
+    void member() {
+        assertIndexScan(() -> memberRepository.findByLoginId("user"));
+        assertIndexScan(() -> memberRepository.existsByLoginId("user"));
+    }
+
+    @DisplayName("작성자별 Todo 목록을 조회할 때 작성자 인덱스를 사용한다.")
+    @Test
+    void todoByWriter() {
+        var page = PageRequest.ofSize(20);
+        var deadline = todo.getDeadline();
+
+        assertIndexScan(() -> todoRepository.findAllByWriterId(WRITER_ID));
+        assertIndexScan(() -> todoRepository.findAllByWriterIdAndStatus(WRITER_ID, Status.INCOMPLETE));
+        assertIndexScan(() -> todoRepository.findAllByWriterIdOrderByDeadlineAscIdAsc(WRITER_ID, page));
+        assertIndexScan(() -> todoRepository.findAllByWriterIdAndStatusOrderByDeadlineAscIdAsc(WRITER_ID, Status.INCOMPLETE, page));
+        assertIndexScan(() -> todoRepository.findAllByWriterIdAfter(WRITER_ID, deadline, 0L, page));
+        assertIndexScan(() -> todoRepository.findAllByWriterIdAndStatusAfter(WRITER_ID, Status.INCOMPLETE, deadline, 0L, page));
+        assertIndexScan(() -> todoRepository.findIdsByWriterIdAndStatus(WRITER_ID, Status.COMPLETE, page));
+        assertIndexScan(() -> todoRepository.findIdsByWriterIdAndDeadlineBefore(WRITER_ID, deadline, page));
+        assertIndexScan(() -> todoRepository.findOverdueByWriterId(WRITER_ID, page));
+        assertIndexScan(() -> todoRepository.findOverdueByWriterIdAfter(WRITER_ID, deadline, 0L, page));
+    }
+
+    @DisplayName("마감일로 보관하거나 마감일 초과를 기록할 Todo를 조회할 때 마감일 인덱스를 사용한다.")
+    @Test
+    void todoByDeadline() {
+        var page = PageRequest.ofSize(20);
+        var deadline = todo.getDeadline();
+
+        assertIndexScan(() -> todoRepository.findWritersByDeadlineBefore(deadline, page));
+        assertIndexScan(() -> todoRepository.findIdsToMarkOverdue(deadline, page));
+    }
+
+    @DisplayName("Todo와 Task를 함께 조회할 때 Task는 Todo ID 인덱스로 조회한다.")
+    @Test
+    void todoWithTasks() {
+        assertIndexScan(() -> todoRepository.findTodoWithTasksById(todo.getId()));
+    }
+
+    @DisplayName("Todo별 Task를 조회하거나 삭제할 때 Todo ID 인덱스를 사용한다.")
+    @Test
+    void taskByTodo() {
+        assertIndexScan(() -> taskRepository.findWithTodoById(task.getId()));
+        assertIndexScan(() -> taskRepository.findAllByTodoId(todo.getId()));
+        assertIndexScan(() -> taskRepository.findAllByTodoIdAndIdIn(todo.getId(), List.of(task.getId())));
+        assertIndexScan(() -> {
+            taskRepository.deleteAllByTodoId(todo.getId());
+            entityManager.flush();
+        });
+    }
+
+    private void assertIndexScan(Runnable operation) {
+        var queries = queryRecorder.record(operation);
+
+        assertThat(queries).isNotEmpty();
+        for (var query : queries) {
+            assertThat(queryRecorder.explain(query))
+                    .as(query.sql())
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+}
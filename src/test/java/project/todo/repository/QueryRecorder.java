@@ -0,0 +1,126 @@
+package project.todo.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 실행된 SQL과 바인딩된 파라미터를 기록하고, 같은 파라미터로 실행 계획(EXPLAIN)을 조회합니다.
+ * <p>
+ * {@link DataSource}를 프록시로 감싸 {@link PreparedStatement}의 파라미터 설정과 실행을 가로챕니다.
+ */
+class QueryRecorder implements BeanPostProcessor {
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    private final List<RecordedQuery> queries = new ArrayList<>();
+    private DataSource dataSource;
+    private boolean recording;
+
+    record RecordedQuery(String sql, Map<Integer, Object> parameters) {
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource target && dataSource == null) {
+            dataSource = target;
+            return proxy(DataSource.class, target, (method, args) -> {
+                var result = method.invoke(target, args);
+                return result instanceof Connection connection ? recordingConnection(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    /**
+     * 실행할 작업에서 조회/삭제/수정하는 SQL을 기록합니다.
+     */
+    synchronized List<RecordedQuery> record(Runnable operation) {
+        queries.clear();
+        recording = true;
+        try {
+            operation.run();
+        } finally {
+            recording = false;
+        }
+        return queries.stream()
+                .filter(query -> query.sql().stripLeading().matches("(?is)^(select|delete|update)\\s.*\\swhere\\s.*"))
+                .toList();
+    }
+
+    String explain(RecordedQuery query) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("explain " + query.sql())) {
+            for (var parameter : query.parameters().entrySet()) {
+                statement.setObject(parameter.getKey(), parameter.getValue());
+            }
+
+            try (var resultSet = statement.executeQuery()) {
+                var plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+                return plan.toString();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(query.sql(), e);
+        }
+    }
+
+    private Connection recordingConnection(Connection target) {
+        return proxy(Connection.class, target, (method, args) -> {
+            var result = method.invoke(target, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return recordingStatement(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement recordingStatement(PreparedStatement target, String sql) {
+        var parameters = new TreeMap<Integer, Object>();
+        return proxy(PreparedStatement.class, target, (method, args) -> {
+            var name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (EXECUTE_METHODS.contains(name) && (args == null || args.length == 0)) {
+                record(sql, parameters);
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private synchronized void record(String sql, Map<Integer, Object> parameters) {
+        if (recording) {
+            queries.add(new RecordedQuery(sql, new TreeMap<>(parameters)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Invocation invocation) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return invocation.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+}
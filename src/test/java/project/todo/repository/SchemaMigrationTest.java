@@ -0,0 +1,75 @@
+package project.todo.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import project.todo.model.todo.Todo;
+import project.todo.model.todo.task.Task;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.repository.todo.task.TaskRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션으로 생성한 스키마가 엔티티와 일치하는지 prod 프로필과 같은 방식(schema validate)으로 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migration;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaMigrationTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @DisplayName("모든 마이그레이션이 적용되고 엔티티 검증을 통과한다.")
+    @Test
+    void migrate() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current()).isNotNull();
+    }
+
+    @DisplayName("조회에 필요한 인덱스와 아이디 유니크 제약 조건이 생성된다.")
+    @Test
+    void indexes() {
+        var indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where table_schema = 'PUBLIC'",
+                String.class
+        );
+
+        assertThat(indexes).contains(
+                "idx_todo_writer_status_deadline",
+                "idx_todo_writer_deadline",
+                "idx_task_todo_status"
+        );
+        assertThat(indexes).anyMatch(name -> name.startsWith("uk_member_login_id"));
+    }
+
+    @DisplayName("마이그레이션으로 생성한 시퀀스로 Todo와 Task를 저장할 수 있다.")
+    @Transactional
+    @Test
+    void save() {
+        var todo = todoRepository.save(Todo.dueOn(0L, "todo", LocalDate.now().plusDays(1), CREATED_AT));
+        taskRepository.save(new Task(todo, "task", CREATED_AT));
+
+        assertThat(taskRepository.findAllByTodoId(todo.getId())).hasSize(1);
+    }
+}
@@ -0,0 +1,89 @@
+package project.todo.service.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import project.todo.service.security.SessionHolder;
+import project.todo.service.security.dto.LoginMember;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginCheckInterceptorTest {
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(1L, "사용자");
+
+    private final StubSessionHolder sessionHolder = new StubSessionHolder();
+    private final LoginCheckInterceptor interceptor = new LoginCheckInterceptor(sessionHolder);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @DisplayName("로그인이 필요한 핸들러에 로그인하지 않고 요청하면 401로 응답한다.")
+    @Test
+    void unauthorized() throws NoSuchMethodException {
+
+        var proceed = interceptor.preHandle(request, response, handler("loginRequired"));
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @DisplayName("로그인한 요청은 로그인 정보를 요청 속성에 보관하고 진행한다.")
+    @Test
+    void authorized() throws NoSuchMethodException {
+        sessionHolder.loginMember = LOGIN_MEMBER;
+
+        var proceed = interceptor.preHandle(request, response, handler("loginRequired"));
+
+        assertThat(proceed).isTrue();
+        assertThat(request.getAttribute(LoginCheckInterceptor.LOGIN_MEMBER_ATTRIBUTE)).isEqualTo(LOGIN_MEMBER);
+    }
+
+    @DisplayName("로그인이 필요하지 않은 핸들러는 세션을 조회하지 않고 진행한다.")
+    @Test
+    void loginNotRequired() throws NoSuchMethodException {
+
+        var proceed = interceptor.preHandle(request, response, handler("loginNotRequired"));
+
+        assertThat(proceed).isTrue();
+        assertThat(sessionHolder.lookupCount).isZero();
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        var controller = new TestController();
+        var method = methodName.equals("loginRequired")
+                ? TestController.class.getMethod(methodName, LoginMember.class)
+                : TestController.class.getMethod(methodName);
+        return new HandlerMethod(controller, method);
+    }
+
+    static class TestController {
+
+        public void loginRequired(@Login LoginMember loginMember) {
+        }
+
+        public void loginNotRequired() {
+        }
+    }
+
+    private static class StubSessionHolder implements SessionHolder {
+        private LoginMember loginMember;
+        private int lookupCount;
+
+        @Override
+        public LoginMember getSession() {
+            lookupCount++;
+            return loginMember;
+        }
+
+        @Override
+        public void setSession(LoginMember loginMember) {
+            this.loginMember = loginMember;
+        }
+
+        @Override
+        public void removeSession() {
+            this.loginMember = null;
+        }
+    }
+}
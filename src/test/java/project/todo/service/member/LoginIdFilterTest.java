@@ -0,0 +1,46 @@
+package project.todo.service.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginIdFilterTest {
+
+    @DisplayName("등록된 아이디는 항상 포함된 것으로 판단한다.")
+    @Test
+    void mightContain() {
+        var filter = new LoginIdFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.add("loginId" + i));
+        filter.ready();
+
+        var contained = IntStream.range(0, 1_000)
+                .allMatch(i -> filter.mightContain("loginId" + i));
+
+        assertThat(contained).isTrue();
+    }
+
+    @DisplayName("등록되지 않은 아이디 대부분은 포함되지 않은 것으로 판단한다.")
+    @Test
+    void falsePositive() {
+        var filter = new LoginIdFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.add("loginId" + i));
+        filter.ready();
+
+        var falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("unknown" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @DisplayName("기존 아이디를 모두 등록하기 전에는 항상 포함된 것으로 판단한다.")
+    @Test
+    void notReady() {
+        var filter = new LoginIdFilter(1_000, 0.01);
+
+        assertThat(filter.mightContain("unknown")).isTrue();
+    }
+}
@@ -11,6 +11,9 @@ import project.todo.model.member.Member;
 import project.todo.repository.member.MemberRepository;
 import project.todo.service.member.dto.MemberLoginRequest;
 import project.todo.service.security.PasswordEncrypt;
+import project.todo.service.security.Sha256PasswordEncrypt;
+
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -18,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @Transactional
 @SpringBootTest
 class LoginServiceTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
 
     @Autowired
     private MemberRepository memberRepository;
@@ -28,6 +32,9 @@ class LoginServiceTest {
     @Autowired
     private PasswordEncrypt passwordEncrypt;
 
+    @Autowired
+    private LoginIdFilter loginIdFilter;
+
     @BeforeEach
     void setUp() {
         var hashedPassword = passwordEncrypt.toHash("password123");
@@ -35,9 +42,10 @@ class LoginServiceTest {
                 "사용자",
                 "loginId",
                 hashedPassword,
-                "test@example.com"
+                "test@example.com",
+                CREATED_AT
         );
-        memberRepository.save(member);
+        save(member);
     }
 
     @DisplayName("아이디와 비밀번호가 일치하면 로그인 처리된다")
@@ -54,6 +62,31 @@ class LoginServiceTest {
         assertThat(login.name()).isEqualTo("사용자");
     }
 
+    @DisplayName("이전 방식으로 해싱된 비밀번호는 로그인 시 현재 방식으로 다시 해싱된다")
+    @Test
+    void rehashOnLogin() {
+        var legacyHash = new Sha256PasswordEncrypt().toHash("password123");
+        save(new Member(
+                "기존사용자",
+                "legacyId",
+                legacyHash,
+                "legacy@example.com",
+                CREATED_AT
+        ));
+        var loginRequest = new MemberLoginRequest(
+                "legacyId",
+                "password123"
+        );
+
+        var login = loginService.login(loginRequest);
+
+        var member = memberRepository.findByLoginId("legacyId").orElseThrow();
+        assertThat(login.name()).isEqualTo("기존사용자");
+        assertThat(member.getPassword()).isNotEqualTo(legacyHash);
+        assertThat(passwordEncrypt.matches("password123", member.getPassword())).isTrue();
+        assertThat(passwordEncrypt.needsRehash(member.getPassword())).isFalse();
+    }
+
     @DisplayName("아이디가 일치하지 않으면 예외 발생")
     @Test
     void loginWithWrongLoginId() {
@@ -92,4 +125,12 @@ class LoginServiceTest {
                 .isInstanceOf(LoginFailedException.class)
                 .hasMessage("로그인 정보가 일치하지 않습니다.");
     }
+
+    /**
+     * 회원가입을 거치지 않고 저장한 회원은 로그인 아이디 필터에 직접 등록합니다.
+     */
+    private void save(Member member) {
+        memberRepository.save(member);
+        loginIdFilter.add(member.getLoginId());
+    }
 }
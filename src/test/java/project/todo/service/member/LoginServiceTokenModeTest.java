@@ -0,0 +1,52 @@
+package project.todo.service.member;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import project.todo.model.member.Member;
+import project.todo.repository.member.MemberRepository;
+import project.todo.service.member.dto.MemberLoginRequest;
+import project.todo.service.security.PasswordEncrypt;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 서버로 실행하는 token 모드에서는 로그인 아이디 필터 없이 DB를 조회합니다.
+ */
+@Transactional
+@SpringBootTest(properties = {
+        "todo.session.mode=token",
+        "todo.session.token.secret=0123456789abcdef0123456789abcdef"
+})
+class LoginServiceTokenModeTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private PasswordEncrypt passwordEncrypt;
+
+    @DisplayName("다른 서버에서 가입하여 이 서버의 필터에 없는 회원도 로그인할 수 있다.")
+    @Test
+    void loginMemberRegisteredOnOtherServer() {
+        memberRepository.save(new Member(
+                "사용자",
+                "otherServerId",
+                passwordEncrypt.toHash("password123"),
+                "test@example.com",
+                CREATED_AT
+        ));
+
+        var login = loginService.login(new MemberLoginRequest("otherServerId", "password123"));
+
+        assertThat(login.name()).isEqualTo("사용자");
+    }
+}
@@ -0,0 +1,55 @@
+package project.todo.service.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.todo.service.member.dto.MemberCredential;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberCredentialCacheTest {
+    private final MemberCredentialCache cache = new MemberCredentialCache(100, Duration.ofMinutes(10));
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @DisplayName("조회한 회원 정보를 캐싱한다.")
+    @Test
+    void get() {
+        cache.get("loginId", this::load);
+
+        var credential = cache.get("loginId", this::load);
+
+        assertThat(credential).hasValueSatisfying(value -> assertThat(value.password()).isEqualTo("hash1"));
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @DisplayName("존재하지 않는 아이디는 캐싱하지 않는다.")
+    @Test
+    void notFound() {
+        cache.get("loginId", loginId -> null);
+
+        var credential = cache.get("loginId", this::load);
+
+        assertThat(credential).isPresent();
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @DisplayName("조회 중에 삭제되면 조회한 이전 회원 정보를 캐시에 남기지 않는다.")
+    @Test
+    void invalidateWhileLoading() {
+        cache.get("loginId", loginId -> {
+            var stale = load(loginId);
+            cache.invalidate(loginId);
+            return stale;
+        });
+
+        var credential = cache.get("loginId", this::load);
+
+        assertThat(credential).hasValueSatisfying(value -> assertThat(value.password()).isEqualTo("hash2"));
+    }
+
+    private MemberCredential load(String loginId) {
+        return new MemberCredential(1L, "사용자", "hash" + loadCount.incrementAndGet());
+    }
+}
@@ -0,0 +1,54 @@
+package project.todo.service.member;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import project.todo.repository.member.MemberRepository;
+import project.todo.service.member.dto.MemberCreateRequest;
+import project.todo.service.member.dto.MemberLoginRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+@SpringBootTest
+class MemberServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private LoginIdFilter loginIdFilter;
+
+    @DisplayName("회원가입한 아이디는 필터에 등록되어 바로 로그인할 수 있다.")
+    @Test
+    void register() {
+        var request = new MemberCreateRequest("사용자", "newLoginId", "password123", "test@example.com");
+
+        memberService.register(request);
+        var login = loginService.login(new MemberLoginRequest("newLoginId", "password123"));
+
+        assertThat(memberRepository.existsByLoginId("newLoginId")).isTrue();
+        assertThat(loginIdFilter.mightContain("newLoginId")).isTrue();
+        assertThat(login.name()).isEqualTo("사용자");
+    }
+
+    @DisplayName("이미 존재하는 아이디로 회원가입하면 예외 발생")
+    @Test
+    void registerDuplicateLoginId() {
+        var request = new MemberCreateRequest("사용자", "duplicateId", "password123", "test@example.com");
+        memberService.register(request);
+
+        assertThatThrownBy(() -> memberService.register(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 존재하는 아이디 입니다.");
+    }
+}
@@ -0,0 +1,107 @@
+package project.todo.service.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import project.todo.exception.member.PasswordHashException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncryptTest {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BoundedPasswordEncrypt passwordEncrypt = new BoundedPasswordEncrypt(
+            new BlockingPasswordEncrypt(),
+            singleThreadExecutor(),
+            Duration.ofSeconds(1)
+    );
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncrypt.close();
+    }
+
+    @DisplayName("전용 스레드에서 해싱한 결과를 반환한다.")
+    @Test
+    void hash() {
+        release.countDown();
+
+        var hashedPassword = passwordEncrypt.toHash("password123");
+
+        assertThat(hashedPassword).isEqualTo("hashed-password123");
+    }
+
+    @DisplayName("해싱 스레드와 대기열이 모두 사용 중이면 기다리지 않고 예외 발생")
+    @Test
+    void rejected() throws InterruptedException {
+        CompletableFuture.runAsync(() -> passwordEncrypt.toHash("password123"));
+        started.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> passwordEncrypt.matches("password123", "hashed-password123"))
+                .isInstanceOf(PasswordHashException.class)
+                .hasMessage("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @DisplayName("제한 시간까지 해싱 결과를 받지 못하면 예외 발생")
+    @Test
+    void timeout() {
+
+        assertThatThrownBy(() -> passwordEncrypt.toHash("password123"))
+                .isInstanceOf(PasswordHashException.class)
+                .hasMessage("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @DisplayName("해싱 중 발생한 예외는 그대로 전달된다.")
+    @Test
+    void exception() {
+        release.countDown();
+
+        assertThatThrownBy(() -> passwordEncrypt.toHash(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("비밀번호를 입력해주세요.");
+    }
+
+    private ThreadPoolTaskExecutor singleThreadExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        return executor;
+    }
+
+    private class BlockingPasswordEncrypt implements PasswordEncrypt {
+
+        @Override
+        public String toHash(String rawPassword) {
+            if (rawPassword.isBlank()) {
+                throw new IllegalArgumentException("비밀번호를 입력해주세요.");
+            }
+
+            started.countDown();
+            await();
+            return "hashed-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String hashedPassword) {
+            return toHash(rawPassword).equals(hashedPassword);
+        }
+
+        private void await() {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
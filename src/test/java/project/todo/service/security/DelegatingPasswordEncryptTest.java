@@ -0,0 +1,34 @@
+package project.todo.service.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DelegatingPasswordEncryptTest {
+    private final Sha256PasswordEncrypt legacy = new Sha256PasswordEncrypt();
+    private final PasswordEncrypt passwordEncrypt = new DelegatingPasswordEncrypt(
+            new Pbkdf2PasswordEncrypt(1_000, 16),
+            legacy
+    );
+
+    @DisplayName("새로운 비밀번호는 PBKDF2로 해싱한다.")
+    @Test
+    void hash() {
+        var hashedPassword = passwordEncrypt.toHash("password123");
+
+        assertThat(hashedPassword).startsWith("{pbkdf2}");
+        assertThat(passwordEncrypt.matches("password123", hashedPassword)).isTrue();
+        assertThat(passwordEncrypt.needsRehash(hashedPassword)).isFalse();
+    }
+
+    @DisplayName("이전 방식으로 해싱된 비밀번호도 검증하며, 다시 해싱해야 한다.")
+    @Test
+    void legacyHash() {
+        var hashedPassword = legacy.toHash("password123");
+
+        assertThat(passwordEncrypt.matches("password123", hashedPassword)).isTrue();
+        assertThat(passwordEncrypt.matches("password", hashedPassword)).isFalse();
+        assertThat(passwordEncrypt.needsRehash(hashedPassword)).isTrue();
+    }
+}
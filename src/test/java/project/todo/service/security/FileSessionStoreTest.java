@@ -0,0 +1,67 @@
+package project.todo.service.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import project.todo.service.security.dto.LoginMember;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSessionStoreTest {
+    private static final String SESSION_ID = "abcdefghijklmnopqrstuvwxyz0123456789_-ABCDE";
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+    private static final StoredSession SESSION = new StoredSession(new LoginMember(1L, "사용자"), NOW.plusSeconds(60));
+
+    @TempDir
+    private Path directory;
+
+    @DisplayName("저장한 세션은 새로운 저장소 인스턴스에서도 조회된다.")
+    @Test
+    void find() {
+        new FileSessionStore(directory).save(SESSION_ID, SESSION);
+
+        var session = new FileSessionStore(directory).find(SESSION_ID);
+
+        assertThat(session).contains(SESSION);
+    }
+
+    @DisplayName("삭제한 세션은 조회되지 않는다.")
+    @Test
+    void remove() {
+        var store = new FileSessionStore(directory);
+        store.save(SESSION_ID, SESSION);
+
+        store.remove(SESSION_ID);
+
+        assertThat(store.find(SESSION_ID)).isEmpty();
+    }
+
+    @DisplayName("만료된 세션만 삭제한다.")
+    @Test
+    void removeExpired() {
+        var store = new FileSessionStore(directory);
+        var expiredSessionId = "expiredSessionId0123456789";
+        store.save(SESSION_ID, SESSION);
+        store.save(expiredSessionId, new StoredSession(new LoginMember(2L, "만료"), NOW));
+
+        store.removeExpired(NOW);
+
+        assertThat(store.find(SESSION_ID)).contains(SESSION);
+        assertThat(store.find(expiredSessionId)).isEmpty();
+    }
+
+    @DisplayName("경로를 벗어나는 세션 ID는 조회하지 않고, 저장 시 예외 발생")
+    @Test
+    void invalidSessionId() {
+        var store = new FileSessionStore(directory);
+
+        assertThat(store.find("../../etc/passwd")).isEmpty();
+        assertThatThrownBy(() -> store.save("../session", SESSION))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 세션 ID입니다.");
+    }
+}
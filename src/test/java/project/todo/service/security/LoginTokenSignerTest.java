@@ -0,0 +1,78 @@
+package project.todo.service.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.todo.service.security.dto.LoginMember;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginTokenSignerTest {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(1L, "사용자|이름");
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private final LoginTokenSigner signer = new LoginTokenSigner(SECRET);
+
+    @DisplayName("서명한 토큰을 검증하면 로그인 정보를 반환한다.")
+    @Test
+    void verify() {
+        var token = signer.sign(LOGIN_MEMBER, NOW.plusSeconds(60));
+
+        var loginMember = signer.verify(token, NOW);
+
+        assertThat(loginMember).contains(LOGIN_MEMBER);
+    }
+
+    @DisplayName("만료된 토큰은 검증에 실패한다.")
+    @Test
+    void expired() {
+        var token = signer.sign(LOGIN_MEMBER, NOW.plusSeconds(60));
+
+        var loginMember = signer.verify(token, NOW.plusSeconds(60));
+
+        assertThat(loginMember).isEmpty();
+    }
+
+    @DisplayName("내용이 변조된 토큰은 검증에 실패한다.")
+    @Test
+    void tampered() {
+        var token = signer.sign(LOGIN_MEMBER, NOW.plusSeconds(60));
+        var otherToken = signer.sign(new LoginMember(2L, "다른사용자"), NOW.plusSeconds(60));
+        var tamperedToken = otherToken.substring(0, otherToken.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        var loginMember = signer.verify(tamperedToken, NOW);
+
+        assertThat(loginMember).isEmpty();
+    }
+
+    @DisplayName("다른 비밀 키로 서명된 토큰은 검증에 실패한다.")
+    @Test
+    void otherSecret() {
+        var token = new LoginTokenSigner("fedcba9876543210fedcba9876543210").sign(LOGIN_MEMBER, NOW.plusSeconds(60));
+
+        var loginMember = signer.verify(token, NOW);
+
+        assertThat(loginMember).isEmpty();
+    }
+
+    @DisplayName("형식이 올바르지 않은 토큰은 검증에 실패한다.")
+    @Test
+    void invalidToken() {
+
+        assertThat(signer.verify(null, NOW)).isEmpty();
+        assertThat(signer.verify("invalid", NOW)).isEmpty();
+        assertThat(signer.verify("in.valid!", NOW)).isEmpty();
+    }
+
+    @DisplayName("비밀 키가 32바이트보다 짧으면 예외 발생")
+    @Test
+    void shortSecret() {
+
+        assertThatThrownBy(() -> new LoginTokenSigner("secret"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("세션 토큰 비밀 키는 32바이트 이상이어야 합니다.");
+    }
+}
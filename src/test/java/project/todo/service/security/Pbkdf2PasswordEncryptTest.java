@@ -0,0 +1,60 @@
+package project.todo.service.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Pbkdf2PasswordEncryptTest {
+    private final Pbkdf2PasswordEncrypt passwordEncrypt = new Pbkdf2PasswordEncrypt(1_000, 16);
+
+    @DisplayName("같은 비밀번호라도 솔트가 달라 매번 다른 해시 값을 반환한다.")
+    @Test
+    void salted() {
+        var hashedPassword1 = passwordEncrypt.toHash("password123");
+        var hashedPassword2 = passwordEncrypt.toHash("password123");
+
+        assertThat(hashedPassword1).isNotEqualTo(hashedPassword2);
+        assertThat(hashedPassword1).startsWith("{pbkdf2}1000$");
+    }
+
+    @DisplayName("저장된 해시 값과 비밀번호가 일치하는지 확인한다.")
+    @Test
+    void matches() {
+        var hashedPassword = passwordEncrypt.toHash("password123");
+
+        assertThat(passwordEncrypt.matches("password123", hashedPassword)).isTrue();
+        assertThat(passwordEncrypt.matches("password", hashedPassword)).isFalse();
+    }
+
+    @ValueSource(strings = {"{pbkdf2}1000$invalid", "{pbkdf2}abc$c2FsdA==$aGFzaA==", "5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8"})
+    @ParameterizedTest(name = "형식이 올바르지 않은 해시 값은 일치하지 않는다.")
+    void matchesInvalidHash(String hashedPassword) {
+
+        assertThat(passwordEncrypt.matches("password", hashedPassword)).isFalse();
+    }
+
+    @DisplayName("설정된 반복 횟수보다 적은 횟수로 해싱된 값은 다시 해싱해야 한다.")
+    @Test
+    void needsRehash() {
+        var weakHash = new Pbkdf2PasswordEncrypt(500, 16).toHash("password123");
+        var currentHash = passwordEncrypt.toHash("password123");
+
+        assertThat(passwordEncrypt.needsRehash(weakHash)).isTrue();
+        assertThat(passwordEncrypt.needsRehash(currentHash)).isFalse();
+        assertThat(passwordEncrypt.matches("password123", weakHash)).isTrue();
+    }
+
+    @NullAndEmptySource
+    @ParameterizedTest(name = "비밀번호 값이 공백이면 예외 발생")
+    void invalidPassword(String password) {
+
+        assertThatThrownBy(() -> passwordEncrypt.toHash(password))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("비밀번호를 입력해주세요.");
+    }
+}
@@ -5,11 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-class PasswordEncryptTest {
-    private final PasswordEncrypt passwordEncrypt = new PasswordEncrypt();
+class Sha256PasswordEncryptTest {
+    private final PasswordEncrypt passwordEncrypt = new Sha256PasswordEncrypt();
 
     @DisplayName("비밀번호를 해싱하면 원본 비밀번호와 다른 값이 반환된다.")
     @Test
@@ -42,6 +44,36 @@ class PasswordEncryptTest {
         assertThat(hashedPassword1).isEqualTo(hashedPassword2);
     }
 
+    @DisplayName("알려진 값의 SHA-256 해시를 소문자 16진수로 반환한다.")
+    @Test
+    void knownHash() {
+        var hashedPassword = passwordEncrypt.toHash("password");
+
+        assertThat(hashedPassword).isEqualTo("5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8");
+    }
+
+    @DisplayName("여러 스레드에서 동시에 해싱해도 같은 값을 반환한다.")
+    @Test
+    void concurrentHash() {
+        var expected = passwordEncrypt.toHash("password123");
+
+        var hashes = IntStream.range(0, 1_000)
+                .parallel()
+                .mapToObj(i -> passwordEncrypt.toHash("password123"))
+                .toList();
+
+        assertThat(hashes).containsOnly(expected);
+    }
+
+    @DisplayName("저장된 해시 값과 비밀번호가 일치하는지 확인한다.")
+    @Test
+    void matches() {
+        var hashedPassword = passwordEncrypt.toHash("password123");
+
+        assertThat(passwordEncrypt.matches("password123", hashedPassword)).isTrue();
+        assertThat(passwordEncrypt.matches("password", hashedPassword)).isFalse();
+    }
+
     @NullAndEmptySource
     @ParameterizedTest(name = "비밀번호 값이 공백이면 예외 발생")
     void invalidPassword(String password) {
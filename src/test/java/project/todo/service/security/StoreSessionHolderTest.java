@@ -0,0 +1,104 @@
+package project.todo.service.security;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import project.todo.service.security.dto.LoginMember;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreSessionHolderTest {
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(1L, "사용자");
+
+    @TempDir
+    private Path directory;
+
+    private SessionHolder sessionHolder;
+
+    @BeforeEach
+    void setUp() {
+        sessionHolder = holder();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("로그인하면 세션 ID를 쿠키로 발급하고, 다음 요청에서 세션 ID로 로그인 정보를 얻는다.")
+    @Test
+    void getSession() {
+        var sessionId = login(sessionHolder);
+
+        bind(requestWith(sessionId));
+
+        assertThat(sessionHolder.getSession()).isEqualTo(LOGIN_MEMBER);
+    }
+
+    @DisplayName("같은 저장소를 사용하는 다른 서버나 재시작된 서버에서도 로그인 정보를 얻는다.")
+    @Test
+    void sharedStore() {
+        var sessionId = login(sessionHolder);
+
+        bind(requestWith(sessionId));
+
+        assertThat(holder().getSession()).isEqualTo(LOGIN_MEMBER);
+    }
+
+    @DisplayName("로그아웃하면 저장소에서 세션을 삭제한다.")
+    @Test
+    void removeSession() {
+        var sessionId = login(sessionHolder);
+        bind(requestWith(sessionId));
+        sessionHolder.removeSession();
+
+        bind(requestWith(sessionId));
+
+        assertThat(sessionHolder.getSession()).isNull();
+    }
+
+    @DisplayName("세션 ID가 없으면 로그인 정보가 없다.")
+    @Test
+    void noSession() {
+        bind(new MockHttpServletRequest());
+
+        assertThat(sessionHolder.getSession()).isNull();
+    }
+
+    private SessionHolder holder() {
+        return new StoreSessionHolder(
+                new NearCacheSessionStore(new FileSessionStore(directory), 100, Duration.ofSeconds(5)),
+                "TODO_SESSION",
+                Duration.ofHours(1),
+                false
+        );
+    }
+
+    private String login(SessionHolder sessionHolder) {
+        var response = bind(new MockHttpServletRequest());
+        sessionHolder.setSession(LOGIN_MEMBER);
+        return response.getCookie("TODO_SESSION").getValue();
+    }
+
+    private MockHttpServletRequest requestWith(String sessionId) {
+        var request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("TODO_SESSION", sessionId));
+        return request;
+    }
+
+    private MockHttpServletResponse bind(MockHttpServletRequest request) {
+        var response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
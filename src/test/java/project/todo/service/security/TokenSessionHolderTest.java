@@ -0,0 +1,89 @@
+package project.todo.service.security;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import project.todo.service.security.dto.LoginMember;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenSessionHolderTest {
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(1L, "사용자");
+
+    private final SessionHolder sessionHolder = new TokenSessionHolder(
+            new LoginTokenSigner("0123456789abcdef0123456789abcdef"),
+            "TODO_SESSION",
+            Duration.ofHours(1),
+            true
+    );
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("로그인하면 서명된 토큰을 쿠키로 발급하고, 다음 요청에서 쿠키로 로그인 정보를 얻는다.")
+    @Test
+    void cookie() {
+        var loginResponse = bind(new MockHttpServletRequest());
+        sessionHolder.setSession(LOGIN_MEMBER);
+        var token = loginResponse.getCookie("TODO_SESSION");
+
+        var request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("TODO_SESSION", token.getValue()));
+        bind(request);
+
+        assertThat(token.isHttpOnly()).isTrue();
+        assertThat(token.getSecure()).isTrue();
+        assertThat(sessionHolder.getSession()).isEqualTo(LOGIN_MEMBER);
+    }
+
+    @DisplayName("Authorization 헤더의 Bearer 토큰으로 로그인 정보를 얻는다.")
+    @Test
+    void bearer() {
+        var loginResponse = bind(new MockHttpServletRequest());
+        sessionHolder.setSession(LOGIN_MEMBER);
+        var token = loginResponse.getCookie("TODO_SESSION").getValue();
+
+        var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        bind(request);
+
+        assertThat(sessionHolder.getSession()).isEqualTo(LOGIN_MEMBER);
+    }
+
+    @DisplayName("토큰이 없거나 올바르지 않으면 로그인 정보가 없다.")
+    @Test
+    void invalidToken() {
+        var request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("TODO_SESSION", "invalid"));
+        bind(request);
+
+        assertThat(sessionHolder.getSession()).isNull();
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @DisplayName("로그아웃하면 쿠키를 삭제한다.")
+    @Test
+    void removeSession() {
+        var response = bind(new MockHttpServletRequest());
+
+        sessionHolder.removeSession();
+
+        assertThat(response.getCookie("TODO_SESSION").getMaxAge()).isZero();
+    }
+
+    private MockHttpServletResponse bind(MockHttpServletRequest request) {
+        var response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
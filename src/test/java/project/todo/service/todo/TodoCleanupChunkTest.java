@@ -0,0 +1,123 @@
+package project.todo.service.todo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.todo.model.todo.Todo;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.event.TodoChangeType;
+import project.todo.service.todo.event.TodoChangedEvent;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크마다 별도의 트랜잭션으로 커밋되는지 확인하기 위해 테스트 트랜잭션 없이 실행합니다.
+ */
+@SpringBootTest(properties = "todo.cleanup.chunk-size=2")
+class TodoCleanupChunkTest {
+
+    @TestConfiguration
+    static class CommitRecorderConfig {
+
+        @Bean
+        CommitRecorder commitRecorder(DataSource dataSource) {
+            return new CommitRecorder(dataSource);
+        }
+    }
+
+    /**
+     * 커밋된 후 발행된 이벤트와, 그 시점에 다른 커넥션에서 조회한 남은 완료 Todo 개수를 기록합니다.
+     */
+    static class CommitRecorder {
+        private final DataSource dataSource;
+        private final List<TodoChangedEvent> events = new CopyOnWriteArrayList<>();
+        private final List<Long> remaining = new CopyOnWriteArrayList<>();
+
+        CommitRecorder(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+        public void committed(TodoChangedEvent event) {
+            if (!event.memberId().equals(LOGIN_MEMBER.id())) {
+                return;
+            }
+
+            events.add(event);
+            remaining.add(countCompletedTodos());
+        }
+
+        private long countCompletedTodos() {
+            try (var connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement("select count(*) from todo where writer_id = ? and status = 'COMPLETE'")) {
+                statement.setLong(1, LOGIN_MEMBER.id());
+                try (var resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getLong(1);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void clear() {
+            events.clear();
+            remaining.clear();
+        }
+    }
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCleanupService todoCleanupService;
+
+    @Autowired
+    private CommitRecorder commitRecorder;
+
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(300L, "사용자");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            var todo = Todo.dueOn(LOGIN_MEMBER.id(), "completed", LocalDate.of(2030, 1, 1), CREATED_AT);
+            todo.complete(LocalDateTime.now());
+            todoRepository.save(todo);
+        }
+        commitRecorder.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("청크마다 커밋하고, 커밋될 때마다 변경 이벤트를 발행한다.")
+    @Test
+    void commitPerChunk() {
+
+        var response = todoCleanupService.deleteCompleted(LOGIN_MEMBER);
+
+        assertThat(response.count()).isEqualTo(5);
+        assertThat(commitRecorder.events)
+                .hasSize(3)
+                .allSatisfy(event -> assertThat(event.type()).isEqualTo(TodoChangeType.TODOS_DELETED));
+        assertThat(commitRecorder.remaining).containsExactly(3L, 1L, 0L);
+    }
+}
@@ -0,0 +1,142 @@
+package project.todo.service.todo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import project.todo.model.todo.Status;
+import project.todo.model.todo.Todo;
+import project.todo.model.todo.task.Task;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.repository.todo.archive.ArchivedTaskRepository;
+import project.todo.repository.todo.archive.ArchivedTodoRepository;
+import project.todo.repository.todo.task.TaskRepository;
+import project.todo.service.security.dto.LoginMember;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+@SpringBootTest(properties = "todo.cleanup.chunk-size=2")
+class TodoCleanupServiceTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TodoCleanupService todoCleanupService;
+
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(0L, "사용자");
+    private static final LoginMember OTHER_MEMBER = new LoginMember(1L, "다른 사용자");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Todo expiredTodo;
+    private Todo incompleteTodo;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            saveCompletedTodo(LOGIN_MEMBER.id());
+        }
+        saveCompletedTodo(OTHER_MEMBER.id());
+
+        incompleteTodo = todoRepository.save(Todo.dueOn(LOGIN_MEMBER.id(), "incomplete", LocalDate.of(2030, 1, 1), CREATED_AT));
+        taskRepository.save(new Task(incompleteTodo, "task", CREATED_AT));
+
+        var createdAt = LocalDateTime.now().minusDays(2);
+        expiredTodo = todoRepository.save(new Todo(LOGIN_MEMBER.id(), "expired", createdAt.plusDays(1), createdAt));
+        taskRepository.save(new Task(expiredTodo, "task", createdAt));
+    }
+
+    @DisplayName("완료된 Todo를 트랜잭션 크기와 관계없이 모두 삭제한다.")
+    @Test
+    void deleteCompleted() {
+
+        var response = todoCleanupService.deleteCompleted(LOGIN_MEMBER);
+
+        assertThat(response.count()).isEqualTo(3);
+        assertThat(todoRepository.findAllByWriterId(LOGIN_MEMBER.id()))
+                .extracting(Todo::getId)
+                .containsExactlyInAnyOrder(incompleteTodo.getId(), expiredTodo.getId());
+    }
+
+    @DisplayName("다른 회원의 완료된 Todo는 삭제하지 않는다.")
+    @Test
+    void deleteCompletedOnlyOwn() {
+
+        todoCleanupService.deleteCompleted(LOGIN_MEMBER);
+
+        assertThat(todoRepository.findAllByWriterIdAndStatus(OTHER_MEMBER.id(), Status.COMPLETE)).hasSize(1);
+    }
+
+    @DisplayName("마감일이 지난 Todo와 포함된 Task를 삭제한다.")
+    @Test
+    void deleteExpired() {
+
+        var response = todoCleanupService.deleteExpired(LOGIN_MEMBER);
+
+        assertThat(response.count()).isEqualTo(1);
+        assertThat(todoRepository.findById(expiredTodo.getId())).isEmpty();
+        assertThat(taskRepository.findAllByTodoId(expiredTodo.getId())).isEmpty();
+        assertThat(taskRepository.findAllByTodoId(incompleteTodo.getId())).hasSize(1);
+    }
+
+    @DisplayName("마감일이 지난 Todo와 포함된 Task를 보관 테이블로 옮긴다.")
+    @Test
+    void archiveExpired() {
+
+        var response = todoCleanupService.archiveExpired(LOGIN_MEMBER);
+
+        assertThat(response.count()).isEqualTo(1);
+        assertThat(todoRepository.findById(expiredTodo.getId())).isEmpty();
+        assertThat(archivedTodoRepository.findById(expiredTodo.getId()))
+                .hasValueSatisfying(archived -> {
+                    assertThat(archived.getTitle()).isEqualTo("expired");
+                    assertThat(archived.getArchivedAt()).isNotNull();
+                });
+        assertThat(archivedTaskRepository.findAllByTodoIdOrderByIdAsc(expiredTodo.getId())).hasSize(1);
+    }
+
+    @DisplayName("완료된 Todo를 모두 보관 테이블로 옮긴다.")
+    @Test
+    void archiveCompleted() {
+
+        var response = todoCleanupService.archiveCompleted(LOGIN_MEMBER);
+
+        assertThat(response.count()).isEqualTo(3);
+        assertThat(todoRepository.findAllByWriterIdAndStatus(LOGIN_MEMBER.id(), Status.COMPLETE)).isEmpty();
+        assertThat(archivedTodoRepository.count()).isEqualTo(3);
+    }
+
+    @DisplayName("모든 회원의 Todo 중 마감일이 기준 시각 이전인 Todo만 보관한다.")
+    @Test
+    void archiveExpiredBefore() {
+
+        var archivedBeforeDeadline = todoCleanupService.archiveExpiredBefore(expiredTodo.getDeadline());
+        var archived = todoCleanupService.archiveExpiredBefore(LocalDateTime.now());
+
+        assertThat(archivedBeforeDeadline).isZero();
+        assertThat(archived).isEqualTo(1);
+        assertThat(archivedTodoRepository.findById(expiredTodo.getId())).isPresent();
+        assertThat(todoRepository.findById(incompleteTodo.getId())).isPresent();
+    }
+
+    private void saveCompletedTodo(Long writerId) {
+        var todo = Todo.dueOn(writerId, "completed", LocalDate.of(2030, 1, 1), CREATED_AT);
+        todo.complete(LocalDateTime.now());
+        todoRepository.save(todo);
+    }
+}
@@ -0,0 +1,92 @@
+package project.todo.service.todo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import project.todo.exception.todo.DeadlineExceededException;
+import project.todo.model.todo.Todo;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.dto.TodoResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+@SpringBootTest
+class TodoOverdueSweeperTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoOverdueSweeper todoOverdueSweeper;
+
+    @Autowired
+    private TodoReadService todoReadService;
+
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(0L, "사용자");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Todo expiredTodo;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        var createdAt = LocalDateTime.now().minusDays(2);
+        expiredTodo = todoRepository.save(new Todo(LOGIN_MEMBER.id(), "expired", createdAt.plusDays(1), createdAt));
+        todo = todoRepository.save(Todo.dueOn(LOGIN_MEMBER.id(), "todo", LocalDate.of(2030, 1, 1), CREATED_AT));
+    }
+
+    @DisplayName("마감일이 지난 Todo만 마감일 초과 상태로 기록한다.")
+    @Test
+    void sweep() {
+
+        var marked = todoOverdueSweeper.sweep(LocalDateTime.now());
+
+        assertThat(marked).isEqualTo(1);
+        assertThat(todoRepository.findById(expiredTodo.getId()).orElseThrow().isOverdue()).isTrue();
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().isOverdue()).isFalse();
+    }
+
+    @DisplayName("이미 기록된 Todo는 다시 기록하지 않는다.")
+    @Test
+    void sweepTwice() {
+        todoOverdueSweeper.sweep(LocalDateTime.now());
+
+        var marked = todoOverdueSweeper.sweep(LocalDateTime.now());
+
+        assertThat(marked).isZero();
+    }
+
+    @DisplayName("마감일 초과 상태로 기록된 미완료 Todo를 조회할 수 있다.")
+    @Test
+    void findOverdueTodos() {
+        todoOverdueSweeper.sweep(LocalDateTime.now());
+
+        var overdueTodos = todoReadService.findOverdueTodos(LOGIN_MEMBER, null, TodoReadService.DEFAULT_PAGE_SIZE);
+
+        assertThat(overdueTodos.todos())
+                .extracting(TodoResponse::id)
+                .containsExactly(expiredTodo.getId());
+    }
+
+    @DisplayName("마감일 초과 상태로 기록된 Todo는 요청 시각이 마감일 이전이어도 수정할 수 없다.")
+    @Test
+    void updateOverdueTodo() {
+        todoOverdueSweeper.sweep(LocalDateTime.now());
+        var overdueTodo = todoRepository.findById(expiredTodo.getId()).orElseThrow();
+        var beforeDeadline = overdueTodo.getDeadline().minusHours(1);
+
+        assertThat(overdueTodo.isOverdue()).isTrue();
+        assertThatThrownBy(() -> overdueTodo.update("update", null, beforeDeadline))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessage("마감일이 초과되어 수정할 수 없습니다.");
+    }
+}
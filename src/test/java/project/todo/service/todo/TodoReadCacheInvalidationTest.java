@@ -0,0 +1,96 @@
+package project.todo.service.todo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.repository.todo.task.TaskRepository;
+import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.dto.TodoCreateRequest;
+import project.todo.service.todo.dto.TodoUpdateRequest;
+import project.todo.service.todo.task.TaskWriteService;
+import project.todo.service.todo.task.dto.TaskAddRequest;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시는 커밋된 후에 삭제되므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@SpringBootTest
+class TodoReadCacheInvalidationTest {
+
+    @Autowired
+    private TodoReadService todoReadService;
+
+    @Autowired
+    private TodoWriteService todoWriteService;
+
+    @Autowired
+    private TaskWriteService taskWriteService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TodoReadCache todoReadCache;
+
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(100L, "사용자");
+
+    @BeforeEach
+    void setUp() {
+        todoReadCache.invalidateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        todoReadCache.invalidateAll();
+    }
+
+    @DisplayName("Todo를 생성하면 캐시된 목록 대신 새로운 목록을 조회한다.")
+    @Test
+    void create() {
+        var before = todoReadService.findTodos(LOGIN_MEMBER, Optional.empty());
+
+        todoWriteService.create(LOGIN_MEMBER, new TodoCreateRequest("todo", LocalDate.of(2030, 1, 1)));
+        var after = todoReadService.findTodos(LOGIN_MEMBER, Optional.empty());
+
+        assertThat(before).isEmpty();
+        assertThat(after).hasSize(1);
+    }
+
+    @DisplayName("Todo를 수정하면 캐시된 상세 정보 대신 수정된 정보를 조회한다.")
+    @Test
+    void update() {
+        todoWriteService.create(LOGIN_MEMBER, new TodoCreateRequest("todo", LocalDate.of(2030, 1, 1)));
+        var todoId = todoRepository.findAllByWriterId(LOGIN_MEMBER.id()).get(0).getId();
+        todoReadService.getTodoWithTasks(LOGIN_MEMBER, todoId);
+
+        todoWriteService.update(LOGIN_MEMBER, todoId, new TodoUpdateRequest("updated", LocalDate.of(2030, 1, 2)));
+        var todo = todoReadService.getTodoWithTasks(LOGIN_MEMBER, todoId);
+
+        assertThat(todo.title()).isEqualTo("updated");
+    }
+
+    @DisplayName("Task를 추가하면 캐시된 상세 정보 대신 Task가 포함된 정보를 조회한다.")
+    @Test
+    void addTask() {
+        todoWriteService.create(LOGIN_MEMBER, new TodoCreateRequest("todo", LocalDate.of(2030, 1, 1)));
+        var todoId = todoRepository.findAllByWriterId(LOGIN_MEMBER.id()).get(0).getId();
+        todoReadService.getTodoWithTasks(LOGIN_MEMBER, todoId);
+
+        taskWriteService.add(LOGIN_MEMBER, todoId, new TaskAddRequest("task"));
+
+        assertThat(todoReadService.getTodoWithTasks(LOGIN_MEMBER, todoId).tasks()).hasSize(1);
+    }
+}
@@ -0,0 +1,98 @@
+package project.todo.service.todo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoReadCacheTest {
+    private static final Long MEMBER_ID = 1L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong version = new AtomicLong();
+    private final TodoReadCache cache = new TodoReadCache(
+            new TodoReadCacheProperties(true, 100, 64, Duration.ofMinutes(1), Duration.ofSeconds(1)),
+            meterRegistry,
+            memberId -> version.get()
+    );
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @DisplayName("같은 조건으로 다시 조회하면 캐시된 결과를 반환한다.")
+    @Test
+    void hit() {
+        cache.getTodos(MEMBER_ID, "list", this::load);
+
+        var result = cache.getTodos(MEMBER_ID, "list", this::load);
+
+        assertThat(result).isEqualTo("result1");
+        assertThat(loadCount).hasValue(1);
+        assertThat(meterRegistry.get("todo.read.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("todo.read.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("Todo가 변경되면 해당 회원의 목록과 변경된 Todo의 상세 결과만 삭제한다.")
+    @Test
+    void invalidate() {
+        cache.getTodos(MEMBER_ID, "list", this::load);
+        cache.getTodo(MEMBER_ID, 10L, this::load);
+        cache.getTodo(MEMBER_ID, 20L, this::load);
+        cache.getTodos(2L, "list", this::load);
+
+        cache.invalidate(MEMBER_ID, 10L);
+
+        assertThat(cache.getTodos(MEMBER_ID, "list", this::load)).isEqualTo("result5");
+        assertThat(cache.getTodo(MEMBER_ID, 10L, this::load)).isEqualTo("result6");
+        assertThat(cache.getTodo(MEMBER_ID, 20L, this::load)).isEqualTo("result3");
+        assertThat(cache.getTodos(2L, "list", this::load)).isEqualTo("result4");
+    }
+
+    @DisplayName("조회 중에 변경이 일어나면 조회한 결과를 캐시에 남기지 않는다.")
+    @Test
+    void invalidateWhileLoading() {
+        cache.getTodos(MEMBER_ID, "list", () -> {
+            cache.invalidate(MEMBER_ID, 10L);
+            return load();
+        });
+
+        var result = cache.getTodos(MEMBER_ID, "list", this::load);
+
+        assertThat(result).isEqualTo("result2");
+    }
+
+    @DisplayName("다른 서버에서 커밋된 변경으로 버전이 바뀌면 캐시된 결과 대신 새로 조회한다.")
+    @Test
+    void versionChanged() {
+        cache.getTodos(MEMBER_ID, "list", this::load);
+        cache.getTodo(MEMBER_ID, 10L, this::load);
+
+        version.incrementAndGet();
+
+        assertThat(cache.getTodos(MEMBER_ID, "list", this::load)).isEqualTo("result3");
+        assertThat(cache.getTodo(MEMBER_ID, 10L, this::load)).isEqualTo("result4");
+        assertThat(cache.getTodos(MEMBER_ID, "list", this::load)).isEqualTo("result3");
+    }
+
+    @DisplayName("캐시를 사용하지 않으면 항상 조회한다.")
+    @Test
+    void disabled() {
+        var disabledCache = new TodoReadCache(
+                new TodoReadCacheProperties(false, 100, 64, Duration.ofMinutes(1), Duration.ofSeconds(1)),
+                new SimpleMeterRegistry(),
+                memberId -> version.get()
+        );
+
+        disabledCache.getTodos(MEMBER_ID, "list", this::load);
+        disabledCache.getTodos(MEMBER_ID, "list", this::load);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private String load() {
+        return "result" + loadCount.incrementAndGet();
+    }
+}
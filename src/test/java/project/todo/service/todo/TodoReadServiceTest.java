@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import project.todo.exception.member.MemberException;
+import project.todo.exception.todo.TodoNotFoundException;
 import project.todo.model.member.Member;
 import project.todo.model.todo.Status;
 import project.todo.model.todo.Todo;
@@ -14,12 +16,15 @@ import project.todo.repository.member.MemberRepository;
 import project.todo.repository.todo.TodoRepository;
 import project.todo.repository.todo.task.TaskRepository;
 import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.dto.TodoResponse;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Transactional
 @SpringBootTest
@@ -37,42 +42,55 @@ class TodoReadServiceTest {
     @Autowired
     private TodoReadService todoReadService;
 
+    @Autowired
+    private TodoReadCache todoReadCache;
+
+    @Autowired
+    private TodoCleanupService todoCleanupService;
+
     private static final LoginMember LOGIN_MEMBER = new LoginMember(0L, "사용자");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
 
     @BeforeEach
     void setUp() {
+        todoReadCache.invalidateAll();
+
         var member = new Member(
                 "사용자",
                 "loginId",
                 "password123",
-                "test@example.com"
+                "test@example.com",
+                CREATED_AT
         );
         memberRepository.save(member);
 
         var todos = List.of(
-                new Todo(
+                Todo.dueOn(
                         0L,
                         "todo1",
-                        LocalDate.of(2030, 9, 1)
+                        LocalDate.of(2030, 9, 1),
+                        CREATED_AT
                 ),
-                new Todo(
+                Todo.dueOn(
                         0L,
                         "todo2",
-                        LocalDate.of(2030, 10, 11)
+                        LocalDate.of(2030, 10, 11),
+                        CREATED_AT
                 ),
-                new Todo(
+                Todo.dueOn(
                         0L,
                         "todo3",
-                        LocalDate.of(2030, 11, 27)
+                        LocalDate.of(2030, 11, 27),
+                        CREATED_AT
                 )
         );
         todoRepository.saveAll(todos);
 
         var savedFirstTodo = todoRepository.findAll().get(0);
         var tasks = List.of(
-                new Task(savedFirstTodo, "task1"),
-                new Task(savedFirstTodo, "task2"),
-                new Task(savedFirstTodo, "task3")
+                new Task(savedFirstTodo, "task1", CREATED_AT),
+                new Task(savedFirstTodo, "task2", CREATED_AT),
+                new Task(savedFirstTodo, "task3", CREATED_AT)
         );
         taskRepository.saveAll(tasks);
     }
@@ -81,7 +99,7 @@ class TodoReadServiceTest {
     @Test
     void findTodos() {
         var todo = todoRepository.findAll().get(0);
-        todo.complete();
+        todo.complete(LocalDateTime.now());
         Optional<Status> emptyStatus = Optional.empty();
 
         var todos = todoReadService.findTodos(LOGIN_MEMBER, emptyStatus);
@@ -93,7 +111,7 @@ class TodoReadServiceTest {
     @Test
     void findCompleteTodos() {
         var todo = todoRepository.findAll().get(0);
-        todo.complete();
+        todo.complete(LocalDateTime.now());
         Optional<Status> completeStatus = Optional.of(Status.COMPLETE);
 
         var todos = todoReadService.findTodos(LOGIN_MEMBER, completeStatus);
@@ -134,6 +152,49 @@ class TodoReadServiceTest {
         assertThat(incompleteTodos).isEmpty();
     }
 
+    @DisplayName("Todo 목록을 마감일 순으로 페이지 단위로 조회할 수 있다.")
+    @Test
+    void findTodoPage() {
+        Optional<Status> emptyStatus = Optional.empty();
+
+        var firstPage = todoReadService.findTodos(LOGIN_MEMBER, emptyStatus, null, 2);
+
+        assertThat(firstPage.todos()).extracting(TodoResponse::title)
+                .containsExactly("todo1", "todo2");
+        assertThat(firstPage.nextCursor()).isNotNull();
+
+        var secondPage = todoReadService.findTodos(LOGIN_MEMBER, emptyStatus, firstPage.nextCursor(), 2);
+
+        assertThat(secondPage.todos()).extracting(TodoResponse::title)
+                .containsExactly("todo3");
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @DisplayName("Todo 목록을 페이지 단위로 조회할 때 상태로 필터링할 수 있다.")
+    @Test
+    void findTodoPageByStatus() {
+        var todo = todoRepository.findAll().get(0);
+        todo.complete(LocalDateTime.now());
+
+        var completePage = todoReadService.findTodos(LOGIN_MEMBER, Optional.of(Status.COMPLETE), null, 2);
+        var incompletePage = todoReadService.findTodos(LOGIN_MEMBER, Optional.of(Status.INCOMPLETE), null, 2);
+
+        assertThat(completePage.todos()).hasSize(1);
+        assertThat(completePage.nextCursor()).isNull();
+        assertThat(incompletePage.todos()).hasSize(2);
+        assertThat(incompletePage.nextCursor()).isNull();
+    }
+
+    @DisplayName("잘못된 커서로 Todo 목록을 조회하면 예외 발생")
+    @Test
+    void findTodoPageWithInvalidCursor() {
+        Optional<Status> emptyStatus = Optional.empty();
+
+        assertThatThrownBy(() -> todoReadService.findTodos(LOGIN_MEMBER, emptyStatus, "invalid", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서 값입니다.");
+    }
+
     @DisplayName("Todo를 상세 조회 하면 포함된 Task도 출력된다.")
     @Test
     void getTodoDetail() {
@@ -143,4 +204,64 @@ class TodoReadServiceTest {
         assertThat(getTodoWithTasks.todoId()).isEqualTo(todo.getId());
         assertThat(getTodoWithTasks.tasks()).hasSize(3);
     }
+
+    @DisplayName("Task가 없는 Todo를 상세 조회 하면 빈 Task 목록이 출력된다.")
+    @Test
+    void getTodoDetailWithoutTasks() {
+        var todo = todoRepository.findAll().get(1);
+
+        var getTodoWithTasks = todoReadService.getTodoWithTasks(LOGIN_MEMBER, todo.getId());
+
+        assertThat(getTodoWithTasks.todoId()).isEqualTo(todo.getId());
+        assertThat(getTodoWithTasks.title()).isEqualTo(todo.getTitle());
+        assertThat(getTodoWithTasks.tasks()).isEmpty();
+    }
+
+    @DisplayName("존재하지 않는 Todo를 상세 조회 하면 예외 발생")
+    @Test
+    void getTodoDetailWithNotExistTodo() {
+
+        assertThatThrownBy(() -> todoReadService.getTodoWithTasks(LOGIN_MEMBER, 999L))
+                .isInstanceOf(TodoNotFoundException.class)
+                .hasMessage("해당 Todo가 존재하지 않습니다.");
+    }
+
+    @DisplayName("작성자가 아닌 사용자가 Todo를 상세 조회 하면 예외 발생")
+    @Test
+    void getTodoDetailWithOtherMember() {
+        var todo = todoRepository.findAll().get(0);
+        var otherMember = new LoginMember(999L, "다른 사용자");
+
+        assertThatThrownBy(() -> todoReadService.getTodoWithTasks(otherMember, todo.getId()))
+                .isInstanceOf(MemberException.class);
+    }
+
+    @DisplayName("보관된 Todo 목록과 포함된 Task를 조회할 수 있다.")
+    @Test
+    void findArchivedTodos() {
+        var createdAt = LocalDateTime.now().minusDays(2);
+        var expiredTodo = todoRepository.save(new Todo(0L, "expired", createdAt.plusDays(1), createdAt));
+        taskRepository.save(new Task(expiredTodo, "task", createdAt));
+        todoCleanupService.archiveExpired(LOGIN_MEMBER);
+
+        var archivedTodos = todoReadService.findArchivedTodos(LOGIN_MEMBER, null, TodoReadService.DEFAULT_PAGE_SIZE);
+        var archivedTodo = todoReadService.getArchivedTodoWithTasks(LOGIN_MEMBER, expiredTodo.getId());
+
+        assertThat(archivedTodos.todos())
+                .extracting(TodoResponse::title)
+                .containsExactly("expired");
+        assertThat(archivedTodo.tasks()).hasSize(1);
+    }
+
+    @DisplayName("작성자가 아닌 사용자가 보관된 Todo를 상세 조회 하면 예외 발생")
+    @Test
+    void getArchivedTodoDetailWithOtherMember() {
+        var createdAt = LocalDateTime.now().minusDays(2);
+        var expiredTodo = todoRepository.save(new Todo(0L, "expired", createdAt.plusDays(1), createdAt));
+        todoCleanupService.archiveExpired(LOGIN_MEMBER);
+        var otherMember = new LoginMember(999L, "다른 사용자");
+
+        assertThatThrownBy(() -> todoReadService.getArchivedTodoWithTasks(otherMember, expiredTodo.getId()))
+                .isInstanceOf(MemberException.class);
+    }
 }
@@ -0,0 +1,170 @@
+package project.todo.service.todo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import project.todo.service.todo.dto.TodoChangeResponse;
+import project.todo.service.todo.event.TodoChangeType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoSubscriberTest {
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final ManualExecutor sender = new ManualExecutor();
+    private final AtomicInteger stalledWriteFinished = new AtomicInteger();
+    private final TodoSubscriber subscriber = new TodoSubscriber(emitter, 2, sender, stalledWriteFinished::incrementAndGet);
+
+    @DisplayName("버퍼에 쌓인 이벤트를 한 번의 전송 작업에서 순서대로 전송한다.")
+    @Test
+    void send() {
+        subscriber.offer(change(1L));
+        subscriber.offer(change(2L));
+
+        sender.runAll();
+
+        assertThat(sender.executedCount).isEqualTo(1);
+        assertThat(emitter.sent).containsExactly("todo:1", "todo:2");
+    }
+
+    @DisplayName("버퍼가 가득 차면 쌓인 이벤트를 버리고 resync 이벤트를 전송한다.")
+    @Test
+    void overflow() {
+        subscriber.offer(change(1L));
+        subscriber.offer(change(2L));
+
+        var dropped = subscriber.offer(change(3L));
+        sender.runAll();
+
+        assertThat(dropped).isTrue();
+        assertThat(emitter.sent).containsExactly("resync");
+    }
+
+    @DisplayName("heartbeat는 대기 중인 이벤트를 전송한 후 전송한다.")
+    @Test
+    void heartbeat() {
+        subscriber.offer(change(1L));
+        subscriber.heartbeat();
+
+        sender.runAll();
+
+        assertThat(emitter.sent).containsExactly("todo:1", "heartbeat");
+    }
+
+    @DisplayName("전송에 실패한 구독자에게는 더 이상 전송하지 않는다.")
+    @Test
+    void closeOnError() {
+        emitter.fail = true;
+        subscriber.offer(change(1L));
+        sender.runAll();
+
+        emitter.fail = false;
+        subscriber.offer(change(2L));
+        sender.runAll();
+
+        assertThat(emitter.sent).isEmpty();
+    }
+
+    @DisplayName("전송이 제한 시간을 넘기면 구독을 종료하고, 전송이 끝나면 전송 스레드가 돌아왔음을 알린다.")
+    @Test
+    void closeIfStalled() throws InterruptedException {
+        var timeout = Duration.ofSeconds(10);
+        emitter.release = new CountDownLatch(1);
+        subscriber.offer(change(1L));
+        var sending = new Thread(sender::runAll);
+        sending.start();
+        emitter.started.await(1, TimeUnit.SECONDS);
+
+        assertThat(subscriber.closeIfStalled(System.nanoTime(), timeout)).isFalse();
+        assertThat(subscriber.closeIfStalled(System.nanoTime() + timeout.toNanos(), timeout)).isTrue();
+        assertThat(subscriber.closeIfStalled(System.nanoTime() + timeout.toNanos(), timeout)).isFalse();
+        assertThat(stalledWriteFinished).hasValue(0);
+
+        subscriber.offer(change(2L));
+        emitter.release.countDown();
+        sending.join(TimeUnit.SECONDS.toMillis(1));
+
+        assertThat(stalledWriteFinished).hasValue(1);
+        assertThat(emitter.failed).isTrue();
+        assertThat(emitter.sent).containsExactly("todo:1");
+    }
+
+    private TodoChangeResponse change(Long todoId) {
+        return new TodoChangeResponse(todoId, TodoChangeType.TODO_UPDATED);
+    }
+
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private int executedCount;
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                executedCount++;
+                task.run();
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new ArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private CountDownLatch release;
+        private boolean fail;
+        private volatile boolean failed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("연결이 끊어졌습니다.");
+            }
+            started.countDown();
+            if (release != null) {
+                await(release);
+            }
+
+            var event = builder.build().stream()
+                    .map(dataWithMediaType -> dataWithMediaType.getData().toString())
+                    .reduce("", String::concat);
+            sent.add(toName(event));
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed = true;
+        }
+
+        private void await(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private String toName(String event) {
+            if (event.startsWith(":heartbeat")) {
+                return "heartbeat";
+            }
+            if (event.startsWith("event:resync")) {
+                return "resync";
+            }
+            return "todo:" + event.substring(event.indexOf("todoId=") + "todoId=".length(), event.indexOf(','));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package project.todo.service.todo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.repository.todo.TodoVersionRepository;
+import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.dto.TodoCreateRequest;
+import project.todo.service.todo.dto.TodoUpdateRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 버전은 변경 트랜잭션이 커밋될 때 함께 반영되므로 테스트 트랜잭션 없이 실행합니다.
+ * 서버에 보관한 버전이 DB와 달라지지 않도록 테스트가 끝나도 버전은 삭제하지 않습니다.
+ */
+@SpringBootTest
+class TodoVersionsTest {
+
+    @Autowired
+    private TodoVersions todoVersions;
+
+    @Autowired
+    private TodoWriteService todoWriteService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoVersionRepository todoVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(200L, "사용자");
+    private static final LoginMember OTHER_MEMBER = new LoginMember(201L, "다른 사용자");
+    private static final LoginMember NEW_MEMBER = new LoginMember(202L, "새로운 사용자");
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("변경이 없으면 같은 ETag를 반환한다.")
+    @Test
+    void sameETag() {
+        var eTag = todoVersions.eTag(LOGIN_MEMBER.id());
+
+        assertThat(todoVersions.eTag(LOGIN_MEMBER.id())).isEqualTo(eTag);
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+    }
+
+    @DisplayName("회원의 Todo가 변경되면 해당 회원의 ETag만 바뀐다.")
+    @Test
+    void changed() {
+        createTodo(OTHER_MEMBER);
+        var eTag = todoVersions.eTag(LOGIN_MEMBER.id());
+        var otherETag = todoVersions.eTag(OTHER_MEMBER.id());
+
+        createTodo(LOGIN_MEMBER);
+
+        assertThat(todoVersions.eTag(LOGIN_MEMBER.id())).isNotEqualTo(eTag);
+        assertThat(todoVersions.eTag(OTHER_MEMBER.id())).isEqualTo(otherETag);
+    }
+
+    @DisplayName("다른 서버에서 커밋된 변경도 같은 ETag로 반영된다.")
+    @Test
+    void sharedBetweenServers() {
+        var otherServer = otherServer(Duration.ZERO);
+        var eTag = otherServer.eTag(LOGIN_MEMBER.id());
+
+        createTodo(LOGIN_MEMBER);
+
+        assertThat(otherServer.eTag(LOGIN_MEMBER.id()))
+                .isNotEqualTo(eTag)
+                .isEqualTo(todoVersions.eTag(LOGIN_MEMBER.id()));
+    }
+
+    @DisplayName("다른 서버에서 커밋된 변경은 확인 주기가 지나기 전까지 서버에 보관한 버전으로 응답한다.")
+    @Test
+    void versionCheckInterval() {
+        var otherServer = otherServer(Duration.ofMinutes(1));
+        var eTag = otherServer.eTag(LOGIN_MEMBER.id());
+
+        createTodo(LOGIN_MEMBER);
+
+        assertThat(otherServer.eTag(LOGIN_MEMBER.id())).isEqualTo(eTag);
+        assertThat(todoVersions.eTag(LOGIN_MEMBER.id())).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("버전이 없는 회원이 동시에 처음 변경해도 모든 변경이 커밋되고 버전이 변경 횟수만큼 증가한다.")
+    @Test
+    void concurrentFirstChanges() {
+        todoVersionRepository.findById(NEW_MEMBER.id()).ifPresent(todoVersionRepository::delete);
+        var threads = 4;
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = IntStream.range(0, threads)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        await(start);
+                        todoWriteService.create(NEW_MEMBER, new TodoCreateRequest("todo", LocalDate.of(2030, 1, 1)));
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            start.countDown();
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(todoRepository.findAllByWriterId(NEW_MEMBER.id())).hasSize(threads);
+        assertThat(todoVersionRepository.findVersionByMemberId(NEW_MEMBER.id())).hasValue((long) threads);
+    }
+
+    @DisplayName("Todo 상세 ETag는 이 서버가 같은 회원에게 응답한 Todo에만 일치한다.")
+    @Test
+    void served() {
+        var todoId = createTodo(LOGIN_MEMBER);
+        var eTag = todoVersions.eTag(LOGIN_MEMBER.id(), todoId);
+
+        assertThat(todoVersions.isServed(LOGIN_MEMBER.id(), todoId, eTag)).isFalse();
+
+        todoVersions.served(LOGIN_MEMBER.id(), todoId, eTag);
+
+        assertThat(todoVersions.isServed(LOGIN_MEMBER.id(), todoId, eTag)).isTrue();
+        assertThat(todoVersions.isServed(OTHER_MEMBER.id(), todoId, eTag)).isFalse();
+        assertThat(todoVersions.eTag(LOGIN_MEMBER.id(), todoId + 1)).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("Todo가 변경되면 이전에 응답한 상세 ETag는 더 이상 일치하지 않는다.")
+    @Test
+    void servedThenChanged() {
+        var todoId = createTodo(LOGIN_MEMBER);
+        var eTag = todoVersions.eTag(LOGIN_MEMBER.id(), todoId);
+        todoVersions.served(LOGIN_MEMBER.id(), todoId, eTag);
+
+        todoWriteService.update(LOGIN_MEMBER, todoId, new TodoUpdateRequest("updated", null));
+
+        assertThat(todoVersions.eTag(LOGIN_MEMBER.id(), todoId)).isNotEqualTo(eTag);
+    }
+
+    private TodoVersions otherServer(Duration versionCheckInterval) {
+        var properties = new TodoReadCacheProperties(true, 100, 64, Duration.ofMinutes(1), versionCheckInterval);
+        return new TodoVersions(todoVersionRepository, transactionManager, properties);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Long createTodo(LoginMember loginMember) {
+        todoWriteService.create(loginMember, new TodoCreateRequest("todo", LocalDate.of(2030, 1, 1)));
+        return todoRepository.findAllByWriterId(loginMember.id()).get(0).getId();
+    }
+}
@@ -0,0 +1,90 @@
+package project.todo.service.todo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import project.todo.model.todo.Todo;
+import project.todo.model.todo.task.Task;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.repository.todo.task.TaskRepository;
+import project.todo.service.security.dto.LoginMember;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TodoWriteServiceQueryCountTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TodoWriteService todoWriteService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(0L, "사용자");
+    private static final int TASK_COUNT = 100;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Statistics statistics;
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+
+        var todo = todoRepository.save(Todo.dueOn(
+                0L,
+                "todo",
+                LocalDate.of(2030, 1, 1),
+                CREATED_AT
+        ));
+        taskRepository.saveAll(IntStream.range(0, TASK_COUNT)
+                .mapToObj(i -> new Task(todo, "task" + i, CREATED_AT))
+                .toList());
+
+        todoId = todo.getId();
+    }
+
+    @DisplayName("Todo 삭제 시 Task 개수와 관계없이 Todo 조회, Task 일괄 삭제, Todo 삭제로 처리된다.")
+    @Test
+    void delete() {
+
+        var count = countStatements(() -> todoWriteService.delete(LOGIN_MEMBER, todoId));
+
+        assertThat(count).isEqualTo(3);
+        assertThat(todoRepository.findById(todoId)).isEmpty();
+        assertThat(taskRepository.findAllByTodoId(todoId)).isEmpty();
+    }
+
+    private long countStatements(Runnable operation) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        operation.run();
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -40,6 +40,7 @@ class TodoWriteServiceTest {
     private TodoWriteService todoWriteService;
 
     private static final LoginMember LOGIN_MEMBER = new LoginMember(0L, "사용자");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
 
     private final LocalDateTime deadline = LocalDate.of(2030, 1, 2)
             .atTime(LocalTime.MAX);
@@ -50,14 +51,16 @@ class TodoWriteServiceTest {
                 "사용자",
                 "loginId",
                 "password123",
-                "test@example.com"
+                "test@example.com",
+                CREATED_AT
         );
         memberRepository.save(member);
 
-        var todo = new Todo(
+        var todo = Todo.dueOn(
                 0L,
                 "todo",
-                LocalDate.of(2030, 1, 1)
+                LocalDate.of(2030, 1, 1),
+                CREATED_AT
         );
         todoRepository.save(todo);
     }
@@ -131,7 +134,7 @@ class TodoWriteServiceTest {
     void completeTodo() {
         var todo = todoRepository.findAll().get(0);
         var task = taskRepository.save(new Task(todo, "task", LocalDateTime.now()));
-        task.complete();
+        task.complete(LocalDateTime.now());
 
         todoWriteService.updateStatus(LOGIN_MEMBER, todo.getId(), Status.COMPLETE);
 
@@ -153,7 +156,7 @@ class TodoWriteServiceTest {
     @Test
     void incompleteTodo() {
         var todo = todoRepository.findAll().get(0);
-        todo.complete();
+        todo.complete(LocalDateTime.now());
 
         todoWriteService.updateStatus(LOGIN_MEMBER, todo.getId(), Status.INCOMPLETE);
 
@@ -0,0 +1,176 @@
+package project.todo.service.todo.task;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.annotation.Transactional;
+import project.todo.model.todo.Status;
+import project.todo.model.todo.Todo;
+import project.todo.model.todo.task.Task;
+import project.todo.repository.todo.TodoRepository;
+import project.todo.repository.todo.task.TaskRepository;
+import project.todo.service.security.dto.LoginMember;
+import project.todo.service.todo.task.dto.TaskAddRequest;
+import project.todo.service.todo.task.dto.TaskUpdateRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+@SpringBootTest
+class TaskWriteServiceQueryCountTest {
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorderCustomizer(StatementRecorder statementRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementRecorder);
+        }
+    }
+
+    /**
+     * 실행된 SQL의 종류(select, insert, update, delete)를 기록합니다.
+     * <p>
+     * ID 시퀀스는 미리 할당받은 ID를 모두 사용했을 때만 조회하므로, 앞서 실행된 테스트에 따라 조회 여부가 달라져 기록하지 않습니다.
+     * 일괄 저장은 SQL을 한 번만 준비하므로 한 번으로 기록됩니다.
+     */
+    static class StatementRecorder implements StatementInspector {
+        private final List<String> types = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            var normalized = sql.strip().toLowerCase();
+            if (!normalized.contains("_seq")) {
+                types.add(normalized.split("\\s+", 2)[0]);
+            }
+            return sql;
+        }
+    }
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskWriteService taskWriteService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+
+    private static final LoginMember LOGIN_MEMBER = new LoginMember(0L, "사용자");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Long todoId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        var todo = todoRepository.save(Todo.dueOn(
+                0L,
+                "todo",
+                LocalDate.of(2030, 1, 1),
+                CREATED_AT
+        ));
+        var tasks = taskRepository.saveAll(List.of(
+                new Task(todo, "task1", CREATED_AT),
+                new Task(todo, "task2", CREATED_AT)
+        ));
+
+        todoId = todo.getId();
+        taskId = tasks.get(0).getId();
+    }
+
+    @DisplayName("Task 추가 시 Todo 조회, Task 저장, Todo의 Task 개수 수정으로 처리된다.")
+    @Test
+    void add() {
+        var request = new TaskAddRequest("new Task");
+
+        var statements = recordStatements(() -> taskWriteService.add(LOGIN_MEMBER, todoId, request));
+
+        assertThat(statements).containsExactlyInAnyOrderEntriesOf(Map.of("select", 1L, "insert", 1L, "update", 1L));
+    }
+
+    @DisplayName("Task 수정 시 Todo를 함께 조회하는 한 번의 조회와 Task 수정으로 처리된다.")
+    @Test
+    void update() {
+        var request = new TaskUpdateRequest("update Task");
+
+        var statements = recordStatements(() -> taskWriteService.update(LOGIN_MEMBER, todoId, taskId, request));
+
+        assertThat(statements).containsExactlyInAnyOrderEntriesOf(Map.of("select", 1L, "update", 1L));
+    }
+
+    @DisplayName("Task 완료 시 Task와 Todo를 한 번에 조회하고, Task 상태와 Todo의 미완료 Task 개수만 수정한다.")
+    @Test
+    void complete() {
+
+        var statements = recordStatements(() -> taskWriteService.updateStatus(LOGIN_MEMBER, todoId, taskId, Status.COMPLETE));
+
+        assertThat(statements).containsExactlyInAnyOrderEntriesOf(Map.of("select", 1L, "update", 2L));
+    }
+
+    @DisplayName("Task 삭제 시 Task와 Todo를 한 번에 조회하고, Task 삭제와 Todo의 Task 개수 수정으로 처리된다.")
+    @Test
+    void delete() {
+
+        var statements = recordStatements(() -> taskWriteService.delete(LOGIN_MEMBER, todoId, taskId));
+
+        assertThat(statements).containsExactlyInAnyOrderEntriesOf(Map.of("select", 1L, "delete", 1L, "update", 1L));
+    }
+
+    @DisplayName("여러 Task를 추가해도 Todo 조회, 일괄 Task 저장, Todo 수정으로 처리된다.")
+    @Test
+    void addAll() {
+        var requests = List.of(
+                new TaskAddRequest("new Task1"),
+                new TaskAddRequest("new Task2"),
+                new TaskAddRequest("new Task3")
+        );
+
+        var statements = recordStatements(() -> taskWriteService.addAll(LOGIN_MEMBER, todoId, requests));
+
+        assertThat(statements).containsExactlyInAnyOrderEntriesOf(Map.of("select", 1L, "insert", 1L, "update", 1L));
+    }
+
+    /**
+     * @return 실행된 SQL의 종류별 개수
+     */
+    private Map<String, Long> recordStatements(Runnable operation) {
+        entityManager.flush();
+        entityManager.clear();
+        statementRecorder.types.clear();
+
+        operation.run();
+        entityManager.flush();
+
+        return statementRecorder.types.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
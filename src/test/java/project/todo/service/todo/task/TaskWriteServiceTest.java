@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import project.todo.exception.todo.task.TaskNotFoundException;
 import project.todo.model.member.Member;
 import project.todo.model.todo.Status;
 import project.todo.model.todo.Todo;
@@ -18,9 +19,11 @@ import project.todo.service.todo.task.dto.TaskAddRequest;
 import project.todo.service.todo.task.dto.TaskUpdateRequest;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Transactional
 @SpringBootTest
@@ -41,6 +44,7 @@ class TaskWriteServiceTest {
     public static final Status COMPLETE_STATUS = Status.COMPLETE;
     public static final Status INCOMPLETE_STATUS = Status.INCOMPLETE;
     private static final LoginMember LOGIN_MEMBER = new LoginMember(0L, "사용자");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
 
     @BeforeEach
     void setUp() {
@@ -48,21 +52,23 @@ class TaskWriteServiceTest {
                 "사용자",
                 "loginId",
                 "password123",
-                "test@example.com"
+                "test@example.com",
+                CREATED_AT
         );
         memberRepository.save(member);
 
-        var todo = new Todo(
+        var todo = Todo.dueOn(
                 0L,
                 "todo",
-                LocalDate.of(2030, 1, 1)
+                LocalDate.of(2030, 1, 1),
+                CREATED_AT
         );
         todoRepository.save(todo);
 
         var savedTodo = todoRepository.findAll().get(0);
         var tasks = List.of(
-                new Task(savedTodo, "task1"),
-                new Task(savedTodo, "task2")
+                new Task(savedTodo, "task1", CREATED_AT),
+                new Task(savedTodo, "task2", CREATED_AT)
         );
         taskRepository.saveAll(tasks);
     }
@@ -183,4 +189,140 @@ class TaskWriteServiceTest {
 
         assertThat(todo.getStatus()).isEqualTo(COMPLETE_STATUS);
     }
+
+    @DisplayName("Task를 추가하면 Todo의 Task 개수와 미완료 Task 개수가 증가한다.")
+    @Test
+    void addTaskIncreasesTaskCount() {
+        var todo = todoRepository.findAll().get(0);
+
+        taskWriteService.add(LOGIN_MEMBER, todo.getId(), new TaskAddRequest("new Task"));
+
+        assertThat(todo.getTaskCount()).isEqualTo(3);
+        assertThat(todo.getIncompleteTaskCount()).isEqualTo(3);
+    }
+
+    @DisplayName("Task를 완료 또는 미완료 처리하면 Todo의 미완료 Task 개수가 변경된다.")
+    @Test
+    void updateStatusChangesIncompleteTaskCount() {
+        var todo = todoRepository.findAll().get(0);
+        var task = taskRepository.findAll().get(0);
+
+        taskWriteService.updateStatus(LOGIN_MEMBER, todo.getId(), task.getId(), COMPLETE_STATUS);
+        assertThat(todo.getIncompleteTaskCount()).isEqualTo(1);
+
+        taskWriteService.updateStatus(LOGIN_MEMBER, todo.getId(), task.getId(), INCOMPLETE_STATUS);
+        assertThat(todo.getIncompleteTaskCount()).isEqualTo(2);
+    }
+
+    @DisplayName("완료된 Task를 삭제하면 Todo의 Task 개수만 감소한다.")
+    @Test
+    void deleteCompletedTaskDecreasesTaskCount() {
+        var todo = todoRepository.findAll().get(0);
+        var task = taskRepository.findAll().get(0);
+        taskWriteService.updateStatus(LOGIN_MEMBER, todo.getId(), task.getId(), COMPLETE_STATUS);
+
+        taskWriteService.delete(LOGIN_MEMBER, todo.getId(), task.getId());
+
+        assertThat(todo.getTaskCount()).isEqualTo(1);
+        assertThat(todo.getIncompleteTaskCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Todo에 여러 Task를 한 번에 추가할 수 있다.")
+    @Test
+    void addTasks() {
+        var todo = todoRepository.findAll().get(0);
+        var requests = List.of(
+                new TaskAddRequest("new Task1"),
+                new TaskAddRequest("new Task2")
+        );
+
+        taskWriteService.addAll(LOGIN_MEMBER, todo.getId(), requests);
+
+        assertThat(taskRepository.findAll()).hasSize(4);
+        assertThat(todo.getTaskCount()).isEqualTo(4);
+    }
+
+    @DisplayName("여러 Task를 한 번에 완료 처리하면 Todo도 완료 처리된다.")
+    @Test
+    void completeTasks() {
+        var todo = todoRepository.findAll().get(0);
+        var taskIds = taskRepository.findAll().stream()
+                .map(Task::getId)
+                .toList();
+
+        taskWriteService.updateStatusAll(LOGIN_MEMBER, todo.getId(), taskIds, COMPLETE_STATUS);
+
+        assertThat(taskRepository.findAll()).allMatch(task -> task.getStatus() == COMPLETE_STATUS);
+        assertThat(todo.getStatus()).isEqualTo(COMPLETE_STATUS);
+    }
+
+    @DisplayName("여러 Task를 한 번에 미완료 처리하면 Todo도 미완료 처리된다.")
+    @Test
+    void incompleteTasks() {
+        var todo = todoRepository.findAll().get(0);
+        var taskIds = taskRepository.findAll().stream()
+                .map(Task::getId)
+                .toList();
+        taskWriteService.updateStatusAll(LOGIN_MEMBER, todo.getId(), taskIds, COMPLETE_STATUS);
+
+        taskWriteService.updateStatusAll(LOGIN_MEMBER, todo.getId(), taskIds, INCOMPLETE_STATUS);
+
+        assertThat(todo.getStatus()).isEqualTo(INCOMPLETE_STATUS);
+        assertThat(todo.getIncompleteTaskCount()).isEqualTo(2);
+    }
+
+    @DisplayName("이미 완료된 Task가 포함되어 있어도 나머지 Task를 완료 처리한다.")
+    @Test
+    void completeTasksWithAlreadyCompletedTask() {
+        var todo = todoRepository.findAll().get(0);
+        var taskIds = taskRepository.findAll().stream()
+                .map(Task::getId)
+                .toList();
+        taskWriteService.updateStatus(LOGIN_MEMBER, todo.getId(), taskIds.get(0), COMPLETE_STATUS);
+
+        taskWriteService.updateStatusAll(LOGIN_MEMBER, todo.getId(), taskIds, COMPLETE_STATUS);
+
+        assertThat(taskRepository.findAll()).allMatch(task -> task.getStatus() == COMPLETE_STATUS);
+        assertThat(todo.getIncompleteTaskCount()).isZero();
+        assertThat(todo.getStatus()).isEqualTo(COMPLETE_STATUS);
+    }
+
+    @DisplayName("모든 Task가 이미 요청한 상태면 아무것도 변경하지 않는다.")
+    @Test
+    void completeTasksAlreadyCompleted() {
+        var todo = todoRepository.findAll().get(0);
+        var taskIds = taskRepository.findAll().stream()
+                .map(Task::getId)
+                .toList();
+        taskWriteService.updateStatusAll(LOGIN_MEMBER, todo.getId(), taskIds, COMPLETE_STATUS);
+
+        taskWriteService.updateStatusAll(LOGIN_MEMBER, todo.getId(), taskIds, COMPLETE_STATUS);
+
+        assertThat(todo.getIncompleteTaskCount()).isZero();
+        assertThat(todo.getStatus()).isEqualTo(COMPLETE_STATUS);
+    }
+
+    @DisplayName("Todo에 포함되지 않은 Task가 있으면 일괄 처리 시 예외 발생")
+    @Test
+    void updateStatusAllWithNotExistTask() {
+        var todo = todoRepository.findAll().get(0);
+        var taskIds = List.of(taskRepository.findAll().get(0).getId(), 999L);
+
+        assertThatThrownBy(() -> taskWriteService.updateStatusAll(LOGIN_MEMBER, todo.getId(), taskIds, COMPLETE_STATUS))
+                .isInstanceOf(TaskNotFoundException.class);
+    }
+
+    @DisplayName("여러 Task를 한 번에 삭제할 수 있다.")
+    @Test
+    void deleteTasks() {
+        var todo = todoRepository.findAll().get(0);
+        var taskIds = taskRepository.findAll().stream()
+                .map(Task::getId)
+                .toList();
+
+        taskWriteService.deleteAll(LOGIN_MEMBER, todo.getId(), taskIds);
+
+        assertThat(taskRepository.findAll()).isEmpty();
+        assertThat(todo.hasTasks()).isFalse();
+    }
 }